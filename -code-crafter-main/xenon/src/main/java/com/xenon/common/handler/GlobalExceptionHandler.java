@@ -3,17 +3,42 @@ package com.xenon.common.handler;
 import com.xenon.core.domain.exception.*;
 import com.xenon.core.domain.model.ResponseMessage;
 import com.xenon.core.domain.response.BaseResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @RestControllerAdvice
+@Slf4j
 public class GlobalExceptionHandler {
 
+    private final Map<ResponseMessage, Counter> errorCounters = new EnumMap<>(ResponseMessage.class);
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        for (ResponseMessage responseMessage : ResponseMessage.values()) {
+            errorCounters.put(responseMessage, Counter.builder("xenon.errors")
+                    .description("Error responses by response code")
+                    .tag("code", responseMessage.getCode())
+                    .tag("status", String.valueOf(responseMessage.getStatus().value()))
+                    .register(meterRegistry));
+        }
+    }
+
     @ExceptionHandler({ApiException.class})
     public ResponseEntity<?> handleApiException(@NonNull BaseException e) {
-        return error(ResponseMessage.INTERNAL_SERVER_ERROR, e.getMessage());
+        // Services wrap everything they catch; an expected exception keeps its own mapping
+        BaseException cause = e;
+        while (cause instanceof ApiException && cause.getCause() instanceof BaseException wrapped) cause = wrapped;
+        if (!(cause instanceof ApiException)) return error(resolve(cause), cause.getMessage());
+
+        log.error(cause.getMessage(), cause.getCause() != null ? cause.getCause() : cause);
+        return error(ResponseMessage.INTERNAL_SERVER_ERROR, cause.getMessage());
     }
 
     @ExceptionHandler({ClientException.class})
@@ -23,15 +48,26 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler({AuthException.class})
     public ResponseEntity<?> handleAuthException(@NonNull BaseException e) {
-        return error(e.getResponseMessage() != null ? e.getResponseMessage() : ResponseMessage.AUTHENTICATION_FAILED, e.getMessage());
+        return error(resolve(e), e.getMessage());
     }
 
     @ExceptionHandler({UnauthorizedException.class})
     public ResponseEntity<?> handleUnauthorizedException(@NonNull BaseException e) {
-        return error(e.getResponseMessage() != null ? e.getResponseMessage() : ResponseMessage.UNAUTHORIZED, e.getMessage());
+        return error(resolve(e), e.getMessage());
+    }
+
+    @ExceptionHandler({ServiceUnavailableException.class})
+    public ResponseEntity<?> handleServiceUnavailableException(@NonNull BaseException e) {
+        return error(resolve(e), e.getMessage());
+    }
+
+    @ExceptionHandler({TooManyRequestsException.class})
+    public ResponseEntity<?> handleTooManyRequestsException(@NonNull BaseException e) {
+        return error(resolve(e), e.getMessage());
     }
 
     protected <T> ResponseEntity<BaseResponse<T>> error(@NonNull ResponseMessage response, @NonNull String message) {
+        errorCounters.get(response).increment();
         return new ResponseEntity<>(
                 new BaseResponse<>(
                         response.getCode(),
@@ -41,4 +77,13 @@ public class GlobalExceptionHandler {
                 response.getStatus()
         );
     }
+
+    private ResponseMessage resolve(BaseException e) {
+        if (e.getResponseMessage() != null) return e.getResponseMessage();
+        if (e instanceof AuthException) return ResponseMessage.AUTHENTICATION_FAILED;
+        if (e instanceof UnauthorizedException) return ResponseMessage.UNAUTHORIZED;
+        if (e instanceof ServiceUnavailableException) return ResponseMessage.SERVICE_UNAVAILABLE;
+        if (e instanceof TooManyRequestsException) return ResponseMessage.TOO_MANY_REQUESTS;
+        return ResponseMessage.BAD_REQUEST;
+    }
 }
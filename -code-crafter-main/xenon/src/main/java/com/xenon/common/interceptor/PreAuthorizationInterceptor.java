@@ -0,0 +1,176 @@
+package com.xenon.common.interceptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xenon.common.annotation.PreAuthorize;
+import com.xenon.common.security.AuthenticatedPrincipal;
+import com.xenon.common.security.TokenRevocationRegistry;
+import com.xenon.common.security.UserSnapshotCache;
+import com.xenon.common.security.VerifiedClaims;
+import com.xenon.common.util.JwtUtil;
+import com.xenon.core.domain.exception.AuthException;
+import com.xenon.core.domain.exception.UnauthorizedException;
+import com.xenon.core.domain.model.ResponseMessage;
+import com.xenon.data.entity.user.User;
+import com.xenon.data.entity.user.UserRole;
+import com.xenon.data.repository.UserRepository;
+import com.xenon.presenter.config.ApplicationConfig;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enforces {@link PreAuthorize} for every controller method. The annotation metadata is compiled into a
+ * handler-method to {@link EnumSet} table once the handler mappings are built, and checked right after
+ * handler lookup, before any argument binding or controller code runs.
+ * <p>
+ * Every token resolves the user through {@link UserSnapshotCache}, so authorizing a request normally needs no
+ * database read. Compact tokens carry the profile version they were issued for; once the user's profile
+ * version has moved on (password, role or status change), the token is rejected as expired and the client has
+ * to refresh it. The instance that made the change drops its snapshot at once; other instances notice when
+ * their snapshot expires, so a change takes effect cluster-wide within {@code security.user-cache.ttl-seconds}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PreAuthorizationInterceptor implements HandlerInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final RouteRule PUBLIC = new RouteRule(null, false);
+
+    private final JwtUtil jwtUtil;
+    private final UserRepository repository;
+    private final UserSnapshotCache userSnapshotCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Method, RouteRule> routeRules = new ConcurrentHashMap<>();
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void compileRouteRules(ContextRefreshedEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        int secured = 0;
+        for (RequestMappingHandlerMapping mapping : context.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+                RouteRule rule = compile(handlerMethod.getMethod());
+                routeRules.put(handlerMethod.getMethod(), rule);
+                if (rule != PUBLIC) secured++;
+            }
+        }
+        log.info("Compiled authorization rules for {} handler methods ({} secured)", routeRules.size(), secured);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) return true;
+        // Async dispatches (e.g. a notification stream completing) were authorized on the original request
+        if (request.getDispatcherType() == DispatcherType.ASYNC) return true;
+
+        RouteRule rule = routeRules.computeIfAbsent(handlerMethod.getMethod(), PreAuthorizationInterceptor::compile);
+        if (rule == PUBLIC) return true;
+
+        AuthenticatedPrincipal principal = authenticate(request);
+
+        if (!rule.authorities.contains(principal.getRole())) {
+            throw new UnauthorizedException("You do not have permission to access this resource");
+        }
+
+        if (rule.shouldCheckAccountStatus) {
+            switch (principal.getStatus()) {
+                case INACTIVE:
+                    throw new UnauthorizedException("Your account is inactive. Please contact the admin to activate your account.");
+                case BANNED:
+                    throw new UnauthorizedException("Your account is suspended. Please contact the admin to resolve the issue.");
+            }
+        }
+
+        request.setAttribute(ApplicationConfig.PRINCIPAL_REQUEST_ATTRIBUTE_KEY, principal);
+        return true;
+    }
+
+    /**
+     * Returns the bearer token of the request's Authorization header.
+     */
+    public static String extractBearerToken(HttpServletRequest request) {
+        final String authHeaderValue = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (authHeaderValue == null || authHeaderValue.isBlank()) {
+            throw new AuthException(ResponseMessage.AUTH_HEADER_MISSING);
+        }
+
+        String token = authHeaderValue.startsWith(BEARER_PREFIX) ? authHeaderValue.substring(BEARER_PREFIX.length()).stripTrailing() : "";
+        if (token.isEmpty() || token.indexOf(' ') >= 0) {
+            throw new AuthException(ResponseMessage.AUTH_HEADER_MISMATCH);
+        }
+        return token;
+    }
+
+    private AuthenticatedPrincipal authenticate(HttpServletRequest request) {
+        VerifiedClaims claims = jwtUtil.verify(extractBearerToken(request));
+
+        AuthenticatedPrincipal principal = userSnapshotCache.get(claims.getSubject());
+        // A token newer than the cached snapshot means the user changed on another instance
+        if (principal == null || isNewerThan(claims, principal)) {
+            principal = load(request, claims.getSubject());
+        }
+
+        if (claims.getProfileVersion() != null && !claims.getProfileVersion().equals(principal.getProfileVersion())) {
+            throw new AuthException(ResponseMessage.SESSION_EXPIRED);
+        }
+
+        if (tokenRevocationRegistry.isRevoked(claims, principal.getId())) {
+            throw new AuthException(ResponseMessage.TOKEN_REVOKED);
+        }
+        return principal;
+    }
+
+    private AuthenticatedPrincipal load(HttpServletRequest request, String phone) {
+        User user = repository.findByPhone(phone).orElseThrow(() -> new UnauthorizedException("No user found in the system with the provided user id"));
+        AuthenticatedPrincipal principal = AuthenticatedPrincipal.of(user);
+        userSnapshotCache.put(principal);
+        // Services get a detached copy of the user, see BaseService#getCurrentUser
+        request.setAttribute(ApplicationConfig.USER_REQUEST_ATTRIBUTE_KEY, objectMapper.convertValue(user, User.class));
+        return principal;
+    }
+
+    private static boolean isNewerThan(VerifiedClaims claims, AuthenticatedPrincipal principal) {
+        return claims.getProfileVersion() != null && principal.getProfileVersion() != null
+                && claims.getProfileVersion() > principal.getProfileVersion();
+    }
+
+    private static RouteRule compile(Method method) {
+        PreAuthorize preAuthorize = AnnotatedElementUtils.findMergedAnnotation(method, PreAuthorize.class);
+        if (preAuthorize == null) return PUBLIC;
+
+        EnumSet<UserRole> authorities = EnumSet.noneOf(UserRole.class);
+        authorities.addAll(Arrays.asList(preAuthorize.authorities()));
+        return new RouteRule(authorities, preAuthorize.shouldCheckAccountStatus());
+    }
+
+    private static final class RouteRule {
+        private final EnumSet<UserRole> authorities;
+        private final boolean shouldCheckAccountStatus;
+
+        private RouteRule(EnumSet<UserRole> authorities, boolean shouldCheckAccountStatus) {
+            this.authorities = authorities;
+            this.shouldCheckAccountStatus = shouldCheckAccountStatus;
+        }
+    }
+}
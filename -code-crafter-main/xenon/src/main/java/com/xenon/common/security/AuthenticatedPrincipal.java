@@ -0,0 +1,33 @@
+package com.xenon.common.security;
+
+import com.xenon.data.entity.user.AccountStatus;
+import com.xenon.data.entity.user.User;
+import com.xenon.data.entity.user.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+/**
+ * Immutable view of the authenticated caller, resolved once per request by the
+ * authorization interceptor and stored as a request attribute. It is a snapshot of the user row:
+ * access tokens are only accepted while their profile version matches {@link #getProfileVersion()}.
+ */
+@Getter
+@AllArgsConstructor
+public final class AuthenticatedPrincipal {
+
+    private final Long id;
+    private final String phone;
+    private final String email;
+    private final UserRole role;
+    private final AccountStatus status;
+    private final Long profileVersion;
+
+    public static AuthenticatedPrincipal of(@NonNull User user) {
+        return new AuthenticatedPrincipal(user.getId(), user.getPhone(), user.getEmail(), user.getRole(), user.getStatus(), user.getProfileVersion());
+    }
+
+    public boolean hasRole(UserRole role) {
+        return this.role == role;
+    }
+}
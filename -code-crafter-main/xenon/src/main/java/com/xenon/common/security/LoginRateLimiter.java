@@ -0,0 +1,98 @@
+package com.xenon.common.security;
+
+import com.xenon.core.domain.exception.TooManyRequestsException;
+import com.xenon.core.domain.model.ResponseMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process login throttle keyed by client IP and by phone number. Runs before the user lookup and the
+ * BCrypt verify so credential-stuffing traffic is shed with a cheap 429. Buckets that have fully refilled
+ * are evicted periodically. The number of tracked keys per dimension is capped by the same scheduled pass,
+ * which drops the least recently used buckets above the cap. New keys are always admitted, so a flood of new
+ * keys cannot lock out keys that were never seen before; between passes a dimension can exceed the cap by the
+ * keys first seen within one eviction interval.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> phoneBuckets = new ConcurrentHashMap<>();
+
+    private final int ipCapacity;
+    private final long ipIntervalNanos;
+    private final int phoneCapacity;
+    private final long phoneIntervalNanos;
+    private final int maxKeys;
+
+    private final Counter allowed;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByPhone;
+    private final Counter evicted;
+
+    public LoginRateLimiter(@Value("${security.login-rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${security.login-rate-limit.ip.per-minute:20}") int ipPerMinute,
+                            @Value("${security.login-rate-limit.phone.capacity:5}") int phoneCapacity,
+                            @Value("${security.login-rate-limit.phone.per-minute:5}") int phonePerMinute,
+                            @Value("${security.login-rate-limit.max-keys:100000}") int maxKeys,
+                            MeterRegistry meterRegistry) {
+        this.ipCapacity = ipCapacity;
+        this.ipIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, ipPerMinute);
+        this.phoneCapacity = phoneCapacity;
+        this.phoneIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, phonePerMinute);
+        this.maxKeys = maxKeys;
+        this.allowed = meterRegistry.counter("xenon.auth.login.rate_limit", "result", "allowed");
+        this.rejectedByIp = meterRegistry.counter("xenon.auth.login.rate_limit", "result", "rejected_ip");
+        this.rejectedByPhone = meterRegistry.counter("xenon.auth.login.rate_limit", "result", "rejected_phone");
+        this.evicted = meterRegistry.counter("xenon.auth.login.rate_limit.evicted");
+    }
+
+    public void acquire(@Nullable String clientIp, @Nullable String phone) {
+        long now = System.nanoTime();
+
+        if (clientIp != null && !tryAcquire(ipBuckets, clientIp, ipCapacity, ipIntervalNanos, now)) {
+            rejectedByIp.increment();
+            throw new TooManyRequestsException(ResponseMessage.TOO_MANY_REQUESTS);
+        }
+        if (phone != null && !tryAcquire(phoneBuckets, phone, phoneCapacity, phoneIntervalNanos, now)) {
+            rejectedByPhone.increment();
+            throw new TooManyRequestsException(ResponseMessage.TOO_MANY_REQUESTS);
+        }
+        allowed.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        evict(ipBuckets, now);
+        evict(phoneBuckets, now);
+    }
+
+    private boolean tryAcquire(Map<String, TokenBucket> buckets, String key, int capacity, long intervalNanos, long now) {
+        TokenBucket bucket = buckets.computeIfAbsent(key, ignored -> new TokenBucket(capacity, intervalNanos, now));
+        return bucket.tryAcquire(now);
+    }
+
+    private void evict(Map<String, TokenBucket> buckets, long now) {
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        int excess = buckets.size() - maxKeys;
+        if (excess <= 0) return;
+
+        List<Map.Entry<String, TokenBucket>> oldest = buckets.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().getLastUsedNanos()))
+                .limit(excess)
+                .toList();
+        oldest.forEach(entry -> buckets.remove(entry.getKey(), entry.getValue()));
+        evicted.increment(oldest.size());
+    }
+}
@@ -0,0 +1,43 @@
+package com.xenon.common.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is the theoretical arrival time of the next
+ * request, held in one {@link AtomicLong}, so acquiring is a single compare-and-set on the hot path.
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+    private volatile long lastUsedNanos;
+
+    public TokenBucket(int capacity, long emissionIntervalNanos, long nowNanos) {
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, capacity - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+        this.lastUsedNanos = nowNanos;
+    }
+
+    public boolean tryAcquire(long nowNanos) {
+        lastUsedNanos = nowNanos;
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, nowNanos) + emissionIntervalNanos;
+            if (next - nowNanos > burstToleranceNanos + emissionIntervalNanos) return false;
+            if (theoreticalArrival.compareAndSet(arrival, next)) return true;
+        }
+    }
+
+    /**
+     * A bucket is idle once it has refilled completely; dropping it then loses no state.
+     */
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+
+    public long getLastUsedNanos() {
+        return lastUsedNanos;
+    }
+}
@@ -0,0 +1,159 @@
+package com.xenon.common.security;
+
+import com.xenon.common.util.JwtUtil;
+import com.xenon.data.entity.auth.RevokedToken;
+import com.xenon.data.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token deny-list backed by the {@code revoked_token} table with an in-memory Bloom filter in front of it.
+ * A token that was never revoked is rejected by the filter and never reaches the database; only filter
+ * hits are confirmed with a query. User-wide revocations are few, so the latest one of each user is held in
+ * memory and checked without a query. The filter is rebuilt on startup and after expired rows are purged,
+ * and rows written by other instances are picked up by a periodic sync. The sync re-reads every row revoked
+ * within an overlap window before the previous sync, since ids and revocation times are assigned before
+ * commit and a row can become visible after rows that were written later.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private static final String TOKEN_KEY = "t:";
+
+    private final RevokedTokenRepository repository;
+    private final JwtUtil jwtUtil;
+    private final long expectedEntries;
+    private final double falsePositiveProbability;
+    private final Counter filterRejected;
+    private final Counter filterPassed;
+    private final Counter confirmedRevoked;
+
+    private final Duration syncOverlap;
+
+    private volatile BloomFilter filter;
+    private volatile Map<Long, Long> userRevokedAtSeconds = new ConcurrentHashMap<>();
+    private volatile ZonedDateTime syncedAt = ZonedDateTime.now();
+
+    public TokenRevocationRegistry(RevokedTokenRepository repository,
+                                   JwtUtil jwtUtil,
+                                   @Value("${security.revocation.expected-entries:100000}") long expectedEntries,
+                                   @Value("${security.revocation.false-positive-probability:0.001}") double falsePositiveProbability,
+                                   @Value("${security.revocation.sync-overlap-ms:300000}") long syncOverlapMillis,
+                                   MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.jwtUtil = jwtUtil;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMillis);
+        this.filter = new BloomFilter(expectedEntries, falsePositiveProbability);
+        this.filterRejected = meterRegistry.counter("xenon.auth.revocation.checks", "result", "filter_negative");
+        this.filterPassed = meterRegistry.counter("xenon.auth.revocation.checks", "result", "filter_positive");
+        this.confirmedRevoked = meterRegistry.counter("xenon.auth.revocation.checks", "result", "revoked");
+    }
+
+    /**
+     * Returns whether the token is revoked, either by its own id or by a user-wide revocation issued after it.
+     * Token issue times only have second precision, so a user-wide revocation covers tokens issued in an
+     * earlier second; a token issued in the same second, e.g. on the login that follows a logout of all
+     * sessions, stays valid.
+     */
+    public boolean isRevoked(@NonNull VerifiedClaims claims, Long userId) {
+        Long userRevokedAt = userId == null ? null : userRevokedAtSeconds.get(userId);
+        if (userRevokedAt != null && claims.getIssuedAtMillis() / 1000 < userRevokedAt) {
+            confirmedRevoked.increment();
+            return true;
+        }
+
+        if (claims.getTokenId() == null || !filter.mightContain(TOKEN_KEY + claims.getTokenId())) {
+            filterRejected.increment();
+            return false;
+        }
+        filterPassed.increment();
+
+        boolean revoked = repository.existsByTokenId(claims.getTokenId());
+        if (revoked) confirmedRevoked.increment();
+        return revoked;
+    }
+
+    /**
+     * Revokes a single token. Tokens issued without an id can only be revoked together with every other
+     * token of the same user.
+     */
+    public void revoke(@NonNull VerifiedClaims claims, Long userId, String reason) {
+        if (claims.getTokenId() == null) {
+            revokeAllForUser(userId, reason);
+            return;
+        }
+        ZonedDateTime expiresAt = ZonedDateTime.ofInstant(Instant.ofEpochMilli(claims.getExpiresAtMillis()), ZoneId.systemDefault());
+        add(repository.save(new RevokedToken(claims.getTokenId(), userId, reason, expiresAt)));
+    }
+
+    /**
+     * Revokes every token of the user issued up to now, e.g. after a ban or a password change.
+     */
+    public void revokeAllForUser(@NonNull Long userId, String reason) {
+        ZonedDateTime expiresAt = ZonedDateTime.now().plus(Duration.ofMillis(jwtUtil.getMaxTokenLifetimeMillis()));
+        add(repository.save(new RevokedToken(null, userId, reason, expiresAt)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<RevokedToken> entries = repository.findByExpiresAtAfter(now);
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, entries.size() * 2L), falsePositiveProbability);
+        Map<Long, Long> rebuiltUsers = new ConcurrentHashMap<>();
+        for (RevokedToken entry : entries) {
+            record(entry, rebuilt, rebuiltUsers);
+        }
+        filter = rebuilt;
+        userRevokedAtSeconds = rebuiltUsers;
+        syncedAt = now;
+        log.info("Token revocation filter rebuilt with {} entries", entries.size());
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.sync-interval-ms:30000}")
+    public synchronized void sync() {
+        ZonedDateTime now = ZonedDateTime.now();
+        for (RevokedToken entry : repository.findByRevokedAtAfterAndExpiresAtAfter(syncedAt.minus(syncOverlap), now)) {
+            record(entry, filter, userRevokedAtSeconds);
+        }
+        syncedAt = now;
+    }
+
+    @Scheduled(cron = "${security.revocation.purge-cron:0 0 3 * * *}")
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(ZonedDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired revoked tokens", deleted);
+            rebuild();
+        }
+    }
+
+    private synchronized void add(RevokedToken entry) {
+        record(entry, filter, userRevokedAtSeconds);
+    }
+
+    private static void record(RevokedToken entry, BloomFilter filter, Map<Long, Long> userRevokedAtSeconds) {
+        if (entry.getTokenId() != null) {
+            filter.put(TOKEN_KEY + entry.getTokenId());
+        } else if (entry.getUserId() != null) {
+            userRevokedAtSeconds.merge(entry.getUserId(), entry.getRevokedAt().toEpochSecond(), Math::max);
+        }
+    }
+}
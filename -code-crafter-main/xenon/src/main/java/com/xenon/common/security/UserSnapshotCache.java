@@ -0,0 +1,84 @@
+package com.xenon.common.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, TTL-based cache of {@link AuthenticatedPrincipal} snapshots keyed by phone, used by the
+ * authorization interceptor to avoid loading the user on every request. Entries are evicted whenever the
+ * underlying user row is updated (see {@link UserSnapshotCacheListener}).
+ */
+@Component
+public class UserSnapshotCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public UserSnapshotCache(@Value("${security.user-cache.ttl-seconds:60}") long ttlSeconds,
+                             @Value("${security.user-cache.max-size:10000}") int maxSize,
+                             MeterRegistry meterRegistry) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxSize = maxSize;
+        this.hits = meterRegistry.counter("xenon.auth.user.cache", "result", "hit");
+        this.misses = meterRegistry.counter("xenon.auth.user.cache", "result", "miss");
+        this.evictions = meterRegistry.counter("xenon.auth.user.cache.evictions");
+        Gauge.builder("xenon.auth.user.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    @Nullable
+    public AuthenticatedPrincipal get(String phone) {
+        Entry entry = entries.get(phone);
+        if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+            hits.increment();
+            return entry.principal;
+        }
+        if (entry != null) entries.remove(phone, entry);
+        misses.increment();
+        return null;
+    }
+
+    public void put(@NonNull AuthenticatedPrincipal principal) {
+        if (ttlNanos <= 0 || maxSize <= 0 || principal.getPhone() == null) return;
+        if (entries.size() >= maxSize) evictExpired();
+        entries.put(principal.getPhone(), new Entry(principal, System.nanoTime() + ttlNanos));
+    }
+
+    public void evict(@Nullable String phone) {
+        if (phone != null && entries.remove(phone) != null) evictions.increment();
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.expiresAt - now <= 0);
+
+        Iterator<String> keys = entries.keySet().iterator();
+        while (entries.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static final class Entry {
+        private final AuthenticatedPrincipal principal;
+        private final long expiresAt;
+
+        private Entry(AuthenticatedPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
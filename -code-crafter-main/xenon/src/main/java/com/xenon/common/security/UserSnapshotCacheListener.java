@@ -0,0 +1,25 @@
+package com.xenon.common.security;
+
+import com.xenon.data.entity.user.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the cached snapshot of a user whenever its row changes, so role and account status updates
+ * are seen by the next authorized request regardless of which service made them. Only this instance's
+ * cache is evicted; other instances pick the change up once their snapshot reaches its TTL.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSnapshotCacheListener {
+
+    private final UserSnapshotCache userSnapshotCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        userSnapshotCache.evict(user.getPhone());
+    }
+}
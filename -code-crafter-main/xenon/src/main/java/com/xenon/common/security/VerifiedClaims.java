@@ -0,0 +1,42 @@
+package com.xenon.common.security;
+
+import com.xenon.data.entity.user.AccountStatus;
+import com.xenon.data.entity.user.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Result of a single signature-verified parse of a bearer token. Built once per token by
+ * {@link com.xenon.common.util.JwtUtil#verify(String)} and read by the authorization interceptor.
+ * <p>
+ * Tokens issued before claim format version 2 only carry the subject; for those the user id, role,
+ * status and profile version are {@code null}.
+ */
+@Getter
+@AllArgsConstructor
+public final class VerifiedClaims {
+
+    private final int formatVersion;
+    @Nullable
+    private final String tokenId;
+    private final String subject;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+    @Nullable
+    private final Long userId;
+    @Nullable
+    private final UserRole role;
+    @Nullable
+    private final AccountStatus status;
+    @Nullable
+    private final Long profileVersion;
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+
+    public boolean isCompact() {
+        return userId != null && role != null && status != null;
+    }
+}
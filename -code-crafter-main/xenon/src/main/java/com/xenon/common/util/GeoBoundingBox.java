@@ -0,0 +1,37 @@
+package com.xenon.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Lat/lon rectangle that encloses a circle on the earth's surface, used as an index-friendly prefilter
+ * before the exact distance check. Circles that reach a pole or cross the antimeridian get the full
+ * longitude range, which keeps the box conservative.
+ */
+@Getter
+@AllArgsConstructor
+public final class GeoBoundingBox {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusKm) {
+        double dLat = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double minLatitude = latitude - dLat;
+        double maxLatitude = latitude + dLat;
+
+        if (minLatitude <= -90.0 || maxLatitude >= 90.0) {
+            return new GeoBoundingBox(Math.max(-90.0, minLatitude), Math.min(90.0, maxLatitude), -180.0, 180.0);
+        }
+
+        double dLon = dLat / Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        if (longitude - dLon < -180.0 || longitude + dLon > 180.0) {
+            return new GeoBoundingBox(minLatitude, maxLatitude, -180.0, 180.0);
+        }
+        return new GeoBoundingBox(minLatitude, maxLatitude, longitude - dLon, longitude + dLon);
+    }
+}
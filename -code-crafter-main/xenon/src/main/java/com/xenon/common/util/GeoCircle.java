@@ -0,0 +1,61 @@
+package com.xenon.common.util;
+
+import lombok.Getter;
+
+import static com.xenon.common.util.GeoBoundingBox.EARTH_RADIUS_KM;
+
+/**
+ * Circle on the earth's surface with a containment check that avoids trigonometry for most points. A point
+ * is inside when its haversine term is at most {@code sin^2(r / 2R)}, which is precomputed, so the check never
+ * needs the distance itself.
+ * <p>
+ * Points further than the radius in latitude alone are rejected first. The rest are compared with an
+ * equirectangular estimate of the haversine term that replaces each {@code sin(x)} by {@code x}. The estimate
+ * never understates the term and overstates it by a relative error of at most {@code m^2 / 3}, where {@code m}
+ * is half the larger of the latitude and longitude differences in radians (about 0.002% for points 100 km
+ * apart). Only points whose estimate falls inside that margin around the circle's edge take the exact path,
+ * so the result matches the haversine check exactly.
+ */
+@Getter
+public final class GeoCircle {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    private final GeoPoint center;
+    private final double radiusKm;
+    private final double angularRadius;
+    private final double haversineRadius;
+
+    private GeoCircle(GeoPoint center, double radiusKm) {
+        this.center = center;
+        this.radiusKm = radiusKm;
+        this.angularRadius = radiusKm / EARTH_RADIUS_KM;
+        double sinHalfAngle = Math.sin(Math.min(angularRadius * 0.5, Math.PI * 0.5));
+        this.haversineRadius = sinHalfAngle * sinHalfAngle;
+    }
+
+    public static GeoCircle of(double latitude, double longitude, double radiusKm) {
+        return new GeoCircle(GeoPoint.of(latitude, longitude), radiusKm);
+    }
+
+    public boolean contains(GeoPoint point) {
+        double dLat = point.getLatitudeRadians() - center.getLatitudeRadians();
+        if (Math.abs(dLat) > angularRadius) return false;
+
+        double dLon = point.getLongitudeRadians() - center.getLongitudeRadians();
+        if (dLon > Math.PI) dLon -= TWO_PI;
+        else if (dLon < -Math.PI) dLon += TWO_PI;
+
+        double halfDLat = dLat * 0.5;
+        double halfDLon = dLon * 0.5;
+        double cosProduct = center.getCosLatitude() * point.getCosLatitude();
+        double estimate = halfDLat * halfDLat + cosProduct * halfDLon * halfDLon;
+        if (estimate <= haversineRadius) return true;
+
+        double m = Math.max(Math.abs(halfDLat), Math.abs(halfDLon));
+        if (estimate * (1.0 - m * m / 3.0) > haversineRadius) return false;
+
+        return GeoPoint.haversine(center.getLatitudeRadians(), center.getLongitudeRadians(), center.getCosLatitude(),
+                point.getLatitudeRadians(), point.getLongitudeRadians(), point.getCosLatitude()) <= haversineRadius;
+    }
+}
@@ -0,0 +1,64 @@
+package com.xenon.common.util;
+
+import lombok.Getter;
+
+import static com.xenon.common.util.GeoBoundingBox.EARTH_RADIUS_KM;
+
+/**
+ * Point on the earth's surface with its radians and the cosine of its latitude precomputed, so repeated
+ * distance computations against it only pay for the other point. Distances use the haversine formula in
+ * its {@code asin} form, which needs two sines, one square root and one arcsine.
+ */
+@Getter
+public final class GeoPoint {
+
+    private final double latitude;
+    private final double longitude;
+    private final double latitudeRadians;
+    private final double longitudeRadians;
+    private final double cosLatitude;
+
+    private GeoPoint(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.latitudeRadians = Math.toRadians(latitude);
+        this.longitudeRadians = Math.toRadians(longitude);
+        this.cosLatitude = Math.cos(latitudeRadians);
+    }
+
+    public static GeoPoint of(double latitude, double longitude) {
+        return new GeoPoint(latitude, longitude);
+    }
+
+    public double distanceKm(GeoPoint other) {
+        return toKm(haversine(latitudeRadians, longitudeRadians, cosLatitude,
+                other.latitudeRadians, other.longitudeRadians, other.cosLatitude));
+    }
+
+    public double distanceKm(double otherLatitude, double otherLongitude) {
+        double otherLatitudeRadians = Math.toRadians(otherLatitude);
+        return toKm(haversine(latitudeRadians, longitudeRadians, cosLatitude,
+                otherLatitudeRadians, Math.toRadians(otherLongitude), Math.cos(otherLatitudeRadians)));
+    }
+
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double latitude1Radians = Math.toRadians(latitude1);
+        double latitude2Radians = Math.toRadians(latitude2);
+        return toKm(haversine(latitude1Radians, Math.toRadians(longitude1), Math.cos(latitude1Radians),
+                latitude2Radians, Math.toRadians(longitude2), Math.cos(latitude2Radians)));
+    }
+
+    /**
+     * The haversine term {@code sin^2(d / 2R)} of the distance {@code d} between two points.
+     */
+    static double haversine(double latitude1, double longitude1, double cosLatitude1,
+                            double latitude2, double longitude2, double cosLatitude2) {
+        double sinHalfDLat = Math.sin((latitude2 - latitude1) * 0.5);
+        double sinHalfDLon = Math.sin((longitude2 - longitude1) * 0.5);
+        return sinHalfDLat * sinHalfDLat + cosLatitude1 * cosLatitude2 * sinHalfDLon * sinHalfDLon;
+    }
+
+    private static double toKm(double haversine) {
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1.0, haversine)));
+    }
+}
@@ -1,113 +1,204 @@
 package com.xenon.common.util;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xenon.common.security.VerifiedClaims;
 import com.xenon.core.domain.exception.AuthException;
 import com.xenon.core.domain.model.ResponseMessage;
+import com.xenon.data.entity.user.AccountStatus;
 import com.xenon.data.entity.user.User;
+import com.xenon.data.entity.user.UserRole;
 import com.xenon.data.repository.UserRepository;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
 
+    /**
+     * Version 1 tokens embed the whole user as JSON under {@code jwt-user}; version 2 tokens carry only
+     * the compact claims below. Both verify until they expire, the subject is the phone in either format.
+     */
+    public static final int CLAIM_FORMAT_VERSION = 2;
+    public static final String CLAIM_FORMAT = "ver";
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_STATUS = "st";
+    public static final String CLAIM_PROFILE_VERSION = "pv";
+
     @Value("${security.jwt.secret-key}")
     private String secretKey;
 
     @Value("${security.jwt.validity}")
     private Long tokenValidityDays;
 
-    private final ObjectMapper objectMapper;
+    @Value("${security.jwt.access-token-validity-minutes:15}")
+    private Long accessTokenValidityMinutes;
+
+    @Value("${security.jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
     private final UserRepository repository;
 
+    private Key signingKey;
+    private JwtParser parser;
+    private final Map<String, VerifiedClaims> verifiedClaimsCache = new ConcurrentHashMap<>();
+    // Digests in insertion order, so a full cache drops its oldest entry in constant time
+    private final Queue<String> verifiedClaimsOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger verifiedClaimsQueued = new AtomicInteger();
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     public String generateAccessToken(String username) {
+        User user = repository.findByPhone(username).orElseThrow(() -> new AuthException("Invalid token provided."));
+        return generateAccessToken(user);
+    }
+
+    public String generateAccessToken(@NonNull User user) {
         Map<String, Object> claims = new HashMap<>();
-        setUpClaims(claims, username);
-        return generateAccessToken(claims, username);
+        setUpClaims(claims, user);
+        return generateAccessToken(claims, user.getPhone());
     }
 
-    public boolean isLongSession(String token) {
-        return getClaimsFromToken(token).get("isLongSession", Boolean.class);
+    /**
+     * Verifies the signature and expiry of the token exactly once and returns its claims. Tokens that
+     * were already verified are served from a bounded cache keyed by their SHA-256 digest until they expire;
+     * when the cache is full, the oldest entry makes room for the new one.
+     */
+    public VerifiedClaims verify(String token) {
+        long now = System.currentTimeMillis();
+        String digest = claimsCacheSize > 0 ? sha256Hex(token) : null;
+
+        if (digest != null) {
+            VerifiedClaims cached = verifiedClaimsCache.get(digest);
+            if (cached != null) {
+                if (!cached.isExpired(now)) return cached;
+                verifiedClaimsCache.remove(digest);
+                throw new AuthException(ResponseMessage.SESSION_EXPIRED);
+            }
+        }
+
+        VerifiedClaims verified;
+        try {
+            verified = toVerifiedClaims(parser.parseClaimsJws(token).getBody());
+        } catch (ExpiredJwtException e) {
+            throw new AuthException(ResponseMessage.SESSION_EXPIRED);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthException(ResponseMessage.SESSION_DATA_MISMATCH);
+        }
+
+        if (digest != null) cacheVerifiedClaims(digest, verified);
+        return verified;
     }
 
-    public boolean isExpired(String token) {
-        return getExpirationDateFromToken(token).before(new Date());
+    public long getAccessTokenValidityMillis() {
+        return accessTokenValidityMinutes * 60 * 1000;
     }
 
-    @SneakyThrows
-    private void setUpClaims(Map<String, Object> claims, String username) {
-        User user = repository.findByPhone(username).orElseThrow(() -> new AuthException("Invalid token provided."));
-        claims.put("jwt-user", objectMapper.writeValueAsString(user));
+    /**
+     * Lifetime of a refresh token, and an upper bound on the remaining life of any token issued so far.
+     */
+    public long getMaxTokenLifetimeMillis() {
+        return tokenValidityDays * 24 * 60 * 60 * 1000;
+    }
+
+    private void setUpClaims(Map<String, Object> claims, User user) {
+        claims.put(CLAIM_FORMAT, CLAIM_FORMAT_VERSION);
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_ROLE, user.getRole().name());
+        claims.put(CLAIM_STATUS, Objects.requireNonNullElse(user.getStatus(), AccountStatus.ACTIVE).name());
+        claims.put(CLAIM_PROFILE_VERSION, user.getProfileVersion());
     }
 
     private String generateAccessToken(Map<String, Object> claims, String username) {
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .setIssuer("Xenon")
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + tokenValidityDays * 24 * 60 * 60 * 1000))
+                .setExpiration(new Date(System.currentTimeMillis() + getAccessTokenValidityMillis()))
                 .signWith(getSigningKey())
                 .compact();
     }
 
-    @SneakyThrows
-    public User getCurrentUser(String token) {
-        String userJson = (String) getClaimsFromToken(token).get("jwt-user");
-        return objectMapper.readValue(userJson, User.class);
+    @NonNull
+    private Key getSigningKey() {
+        return signingKey;
     }
 
-    public String getCurrentUserPhone(String token) {
-        return getCurrentUser(token).getPhone();
-    }
+    private VerifiedClaims toVerifiedClaims(Claims claims) {
+        Integer format = claims.get(CLAIM_FORMAT, Integer.class);
+        long issuedAt = claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime();
+        long expiresAt = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
 
-    public String getCurrentUserEmail(String token) {
-        return getCurrentUser(token).getEmail();
-    }
+        if (format == null || format < CLAIM_FORMAT_VERSION) {
+            return new VerifiedClaims(1, claims.getId(), claims.getSubject(), issuedAt, expiresAt, null, null, null, null);
+        }
 
-    public Long getCurrentUserId(String token) {
-        return getCurrentUser(token).getId();
+        String role = claims.get(CLAIM_ROLE, String.class);
+        String status = claims.get(CLAIM_STATUS, String.class);
+        return new VerifiedClaims(
+                format,
+                claims.getId(),
+                claims.getSubject(),
+                issuedAt,
+                expiresAt,
+                claims.get(CLAIM_USER_ID, Long.class),
+                role == null ? null : UserRole.valueOf(role),
+                status == null ? null : AccountStatus.valueOf(status),
+                claims.get(CLAIM_PROFILE_VERSION, Long.class)
+        );
     }
 
-    @NonNull
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey));
+    private void cacheVerifiedClaims(String digest, VerifiedClaims verified) {
+        verifiedClaimsCache.put(digest, verified);
+        verifiedClaimsOrder.offer(digest);
+        if (verifiedClaimsQueued.incrementAndGet() > claimsCacheSize) {
+            String oldest = verifiedClaimsOrder.poll();
+            if (oldest != null) {
+                verifiedClaimsQueued.decrementAndGet();
+                verifiedClaimsCache.remove(oldest);
+            }
+        }
     }
 
-    private Date getExpirationDateFromToken(String token) {
+    public static String sha256Hex(String token) {
         try {
-            return getClaimFromToken(token, Claims::getExpiration);
-        } catch (ExpiredJwtException e) {
-            throw new AuthException(ResponseMessage.SESSION_EXPIRED);
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
-
-    private <T> T getClaimFromToken(String token, @NonNull Function<Claims, T> claimsResolver) {
-        return claimsResolver.apply(getClaimsFromToken(token));
-    }
-
-    private Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-}
\ No newline at end of file
+}
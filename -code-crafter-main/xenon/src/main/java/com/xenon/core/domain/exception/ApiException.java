@@ -2,6 +2,7 @@ package com.xenon.core.domain.exception;
 
 public class ApiException extends BaseException {
     public ApiException(Exception e) {
-        super(e);
+        // Wrapping an expected exception keeps it cheap; only unexpected causes need a trace
+        super(e, !(e instanceof BaseException));
     }
 }
@@ -4,21 +4,29 @@ import com.xenon.core.domain.model.ResponseMessage;
 import lombok.Getter;
 import org.springframework.lang.NonNull;
 
+/**
+ * Expected failures are stackless: they are mapped to a response by the global handler and
+ * never logged, so filling in a stack trace would only cost CPU on bad requests.
+ */
 @Getter
 public class BaseException extends RuntimeException {
 
     private ResponseMessage responseMessage;
 
     public BaseException(@NonNull ResponseMessage responseMessage) {
-        super(responseMessage.getMessage());
+        super(responseMessage.getMessage(), null, false, false);
         this.responseMessage = responseMessage;
     }
 
     public BaseException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public BaseException(Exception e) {
-        super(e);
+        this(e, true);
+    }
+
+    protected BaseException(Exception e, boolean writableStackTrace) {
+        super(e == null ? null : e.toString(), e, false, writableStackTrace);
     }
 }
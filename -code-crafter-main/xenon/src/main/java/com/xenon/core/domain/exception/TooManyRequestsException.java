@@ -0,0 +1,9 @@
+package com.xenon.core.domain.exception;
+
+import com.xenon.core.domain.model.ResponseMessage;
+
+public class TooManyRequestsException extends BaseException {
+    public TooManyRequestsException(ResponseMessage responseMessage) {
+        super(responseMessage);
+    }
+}
@@ -16,6 +16,9 @@ public enum ResponseMessage {
     SESSION_DATA_MISMATCH("XE0007", "Session data mismatched", HttpStatus.UNAUTHORIZED),
     UNAUTHORIZED_RESOURCE_ACCESS("XE0008", "You don't have permission to access this resource", HttpStatus.FORBIDDEN),
     BAD_REQUEST("XE0009", "Bad Request", HttpStatus.BAD_REQUEST),
+    TOKEN_REVOKED("XE0010", "Token has been revoked", HttpStatus.UNAUTHORIZED),
+    SERVICE_UNAVAILABLE("XE0011", "Server is busy, please try again shortly", HttpStatus.SERVICE_UNAVAILABLE),
+    TOO_MANY_REQUESTS("XE0012", "Too many attempts, please try again later", HttpStatus.TOO_MANY_REQUESTS),
     OPERATION_SUCCESSFUL("XS0001", "This operation has been completed successfully", HttpStatus.OK);
 
     private final String code;
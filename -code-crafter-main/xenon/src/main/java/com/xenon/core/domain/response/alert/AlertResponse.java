@@ -54,4 +54,12 @@ public class AlertResponse {
         response.setDistanceFromUser(distanceKm);
         return response;
     }
+
+    /**
+     * Copy of this response with the distance from the user set, leaving this instance untouched.
+     */
+    public AlertResponse withDistanceFromUser(Double distanceKm) {
+        return new AlertResponse(id, title, description, alertness, latitude, longitude, radius, severityLevel, isActive,
+                startDate, endDate, healthAuthorizationName, createdAt, updatedAt, distanceKm);
+    }
 }
\ No newline at end of file
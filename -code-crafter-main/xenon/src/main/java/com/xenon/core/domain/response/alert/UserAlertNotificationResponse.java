@@ -2,6 +2,7 @@ package com.xenon.core.domain.response.alert;
 
 import com.xenon.data.entity.alert.AlertSeverity;
 import com.xenon.data.entity.alert.UserAlertNotification;
+import com.xenon.data.repository.NotificationReadStateRepository.ReadState;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -44,4 +45,14 @@ public class UserAlertNotificationResponse {
         response.setDistance(distanceKm);
         return response;
     }
+
+    /**
+     * Shows the notification as read when it is covered by the user's read watermark.
+     */
+    public void applyReadWatermark(ReadState readState) {
+        if (!isRead && readState.covers(id)) {
+            this.isRead = true;
+            this.readAt = readState.getLastReadAt();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.xenon.core.domain.response.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenResponse {
+    private String accessToken;
+    private String refreshToken;
+    private long accessTokenExpiresIn; // seconds
+    private String tokenType = "Bearer";
+
+    public TokenResponse(String accessToken, String refreshToken, long accessTokenExpiresIn) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.accessTokenExpiresIn = accessTokenExpiresIn;
+    }
+}
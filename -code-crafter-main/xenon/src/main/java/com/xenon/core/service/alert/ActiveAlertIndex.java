@@ -0,0 +1,237 @@
+package com.xenon.core.service.alert;
+
+import com.xenon.common.util.GeoCircle;
+import com.xenon.common.util.GeoPoint;
+import com.xenon.core.service.healthAuthorization.AlertChangedEvent;
+import com.xenon.data.entity.alert.AlertTable;
+import com.xenon.data.repository.AlertTableRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory grid index of active alert circles. Every alert is registered in each fixed-size lat/lon cell
+ * its bounding box touches, so finding the alerts that cover a point is a single map lookup followed by an
+ * exact containment check (see {@link GeoCircle}) on a handful of candidates. Alerts too large for the grid are kept in a separate
+ * list that is checked on every lookup.
+ * <p>
+ * The index follows alert writes after they commit (see {@link AlertChangedEvent}) and is reloaded from
+ * the database on startup and periodically, which also picks up changes made by other instances.
+ */
+@Slf4j
+@Component
+public class ActiveAlertIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final AlertTableRepository alertTableRepository;
+    private final double cellDegrees;
+    private final int maxCellsPerAlert;
+    private final int lonCells;
+
+    private final Map<Long, Entry> alerts = new HashMap<>();
+    private long version;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public ActiveAlertIndex(AlertTableRepository alertTableRepository,
+                            @Value("${alert.index.cell-degrees:0.1}") double cellDegrees,
+                            @Value("${alert.index.max-cells-per-alert:4096}") int maxCellsPerAlert,
+                            MeterRegistry meterRegistry) {
+        this.alertTableRepository = alertTableRepository;
+        this.cellDegrees = cellDegrees;
+        this.maxCellsPerAlert = maxCellsPerAlert;
+        this.lonCells = (int) Math.ceil(360.0 / cellDegrees);
+        Gauge.builder("xenon.alert.index.size", this, index -> index.snapshot.size).register(meterRegistry);
+        Gauge.builder("xenon.alert.index.wide", this, index -> index.snapshot.wide.length).register(meterRegistry);
+    }
+
+    /**
+     * Returns the ids of the alerts that are active at {@code now} and whose circle contains the point.
+     */
+    public List<Long> findCoveringAlertIds(double latitude, double longitude, @NonNull ZonedDateTime now) {
+        Snapshot current = snapshot;
+        long nowMillis = now.toInstant().toEpochMilli();
+        GeoPoint point = GeoPoint.of(latitude, longitude);
+        List<Long> result = new ArrayList<>();
+
+        Entry[] cell = current.cells.get(cellKey(latIndex(latitude), lonIndex(longitude)));
+        if (cell != null) collect(cell, point, nowMillis, result);
+        collect(current.wide, point, nowMillis, result);
+        return result;
+    }
+
+    /**
+     * Grid cell of a point. Every point of a cell has the same candidate alerts.
+     */
+    public long cellOf(double latitude, double longitude) {
+        return cellKey(latIndex(latitude), lonIndex(longitude));
+    }
+
+    /**
+     * Returns the ids of the alerts that may cover some point of the cell, without checking dates or distance.
+     */
+    public List<Long> findCandidateAlertIds(long cell) {
+        Snapshot current = snapshot;
+        List<Long> result = new ArrayList<>();
+        Entry[] entries = current.cells.get(cell);
+        if (entries != null) for (Entry entry : entries) result.add(entry.id);
+        for (Entry entry : current.wide) result.add(entry.id);
+        return result;
+    }
+
+    /**
+     * Changes on every alert change and reload, so results derived from the index can be tagged with it.
+     */
+    public long version() {
+        return snapshot.version;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${alert.index.reload-interval-ms:60000}", initialDelayString = "${alert.index.reload-interval-ms:60000}")
+    public synchronized void reload() {
+        List<AlertTable> active = alertTableRepository.findByIsActiveTrue();
+        long nowMillis = System.currentTimeMillis();
+
+        alerts.clear();
+        for (AlertTable alert : active) {
+            Entry entry = Entry.of(alert);
+            if (entry.endMillis >= nowMillis) alerts.put(entry.id, entry);
+        }
+        publish();
+        log.debug("Active alert index reloaded with {} alerts", alerts.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onAlertChanged(AlertChangedEvent event) {
+        AlertTable alert = event.getAlert();
+        if (event.getType() == AlertChangedEvent.Type.DELETED || !alert.isActive()) {
+            if (alerts.remove(alert.getId()) == null) return;
+        } else {
+            alerts.put(alert.getId(), Entry.of(alert));
+        }
+        publish();
+    }
+
+    private void publish() {
+        Map<Long, List<Entry>> cells = new HashMap<>();
+        List<Entry> wide = new ArrayList<>();
+
+        for (Entry entry : alerts.values()) {
+            double dLat = entry.radiusKm / KM_PER_DEGREE;
+            double cosLat = Math.cos(Math.toRadians(Math.min(89.0, Math.abs(entry.latitude) + dLat)));
+            double dLon = dLat / cosLat;
+
+            int minLat = latIndex(entry.latitude - dLat);
+            int maxLat = latIndex(entry.latitude + dLat);
+            boolean coversPole = Math.abs(entry.latitude) + dLat >= 90.0;
+            int lonSpan = coversPole || dLon >= 180.0 ? lonCells : lonIndexSpan(entry.longitude - dLon, entry.longitude + dLon);
+
+            if ((long) (maxLat - minLat + 1) * lonSpan > maxCellsPerAlert) {
+                wide.add(entry);
+                continue;
+            }
+            int minLon = lonIndex(entry.longitude - dLon);
+            for (int lat = minLat; lat <= maxLat; lat++) {
+                for (int i = 0; i < lonSpan; i++) {
+                    cells.computeIfAbsent(cellKey(lat, (minLon + i) % lonCells), key -> new ArrayList<>(2)).add(entry);
+                }
+            }
+        }
+
+        Map<Long, Entry[]> frozen = new HashMap<>(cells.size() * 2);
+        cells.forEach((key, entries) -> frozen.put(key, entries.toArray(new Entry[0])));
+        snapshot = new Snapshot(frozen, wide.toArray(new Entry[0]), alerts.size(), ++version);
+    }
+
+    private static void collect(Entry[] entries, GeoPoint point, long nowMillis, List<Long> result) {
+        for (Entry entry : entries) {
+            if (entry.isLiveAt(nowMillis) && entry.circle.contains(point)) {
+                result.add(entry.id);
+            }
+        }
+    }
+
+    private int latIndex(double latitude) {
+        return (int) Math.floor((Math.max(-90.0, Math.min(90.0, latitude)) + 90.0) / cellDegrees);
+    }
+
+    private int lonIndex(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / cellDegrees), lonCells);
+    }
+
+    private int lonIndexSpan(double fromLongitude, double toLongitude) {
+        int from = (int) Math.floor((fromLongitude + 180.0) / cellDegrees);
+        int to = (int) Math.floor((toLongitude + 180.0) / cellDegrees);
+        return Math.min(lonCells, to - from + 1);
+    }
+
+    private long cellKey(int latIndex, int lonIndex) {
+        return (long) latIndex * lonCells + lonIndex;
+    }
+
+    private static final class Entry {
+        private final long id;
+        private final double latitude;
+        private final double longitude;
+        private final double radiusKm;
+        private final long startMillis;
+        private final long endMillis;
+        private final GeoCircle circle;
+
+        private Entry(long id, double latitude, double longitude, double radiusKm, long startMillis, long endMillis) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.radiusKm = radiusKm;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.circle = GeoCircle.of(latitude, longitude, radiusKm);
+        }
+
+        private static Entry of(AlertTable alert) {
+            return new Entry(
+                    alert.getId(),
+                    alert.getLatitude(),
+                    alert.getLongitude(),
+                    alert.getRadius(),
+                    alert.getStartDate() == null ? Long.MIN_VALUE : alert.getStartDate().toInstant().toEpochMilli(),
+                    alert.getEndDate() == null ? Long.MAX_VALUE : alert.getEndDate().toInstant().toEpochMilli()
+            );
+        }
+
+        private boolean isLiveAt(long nowMillis) {
+            return startMillis <= nowMillis && nowMillis <= endMillis;
+        }
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), new Entry[0], 0, 0L);
+
+        private final Map<Long, Entry[]> cells;
+        private final Entry[] wide;
+        private final int size;
+        private final long version;
+
+        private Snapshot(Map<Long, Entry[]> cells, Entry[] wide, int size, long version) {
+            this.cells = cells;
+            this.wide = wide;
+            this.size = size;
+            this.version = version;
+        }
+    }
+}
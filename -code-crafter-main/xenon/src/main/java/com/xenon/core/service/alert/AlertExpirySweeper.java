@@ -0,0 +1,118 @@
+package com.xenon.core.service.alert;
+
+import com.xenon.core.service.healthAuthorization.AlertChangedEvent;
+import com.xenon.data.entity.alert.AlertTable;
+import com.xenon.data.repository.AlertTableRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Switches alerts off once their end date has passed. Active alerts with an end date are kept in a queue
+ * ordered by end date, so each tick only looks at the head of the queue. Expired alerts are deactivated and
+ * announced with a {@link AlertChangedEvent.Type#DEACTIVATED} event, which evicts them from the in-memory
+ * alert structures. Queue entries made stale by a later end date are re-checked against the database before
+ * anything is deactivated.
+ */
+@Slf4j
+@Component
+public class AlertExpirySweeper {
+
+    private final AlertTableRepository alertTableRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriorityQueue<Expiry> queue = new PriorityQueue<>(Comparator.comparingLong(expiry -> expiry.endMillis));
+    private final Counter expired;
+
+    public AlertExpirySweeper(AlertTableRepository alertTableRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry) {
+        this.alertTableRepository = alertTableRepository;
+        this.eventPublisher = eventPublisher;
+        this.expired = meterRegistry.counter("xenon.alert.expired");
+        Gauge.builder("xenon.alert.expiry.pending", this, sweeper -> sweeper.size()).register(meterRegistry);
+    }
+
+    /**
+     * Rebuilds the queue from the database, which also picks up alerts changed by other instances.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${alert.expiry.reload-interval-ms:600000}", initialDelayString = "${alert.expiry.reload-interval-ms:600000}")
+    public synchronized void reload() {
+        queue.clear();
+        for (AlertTable alert : alertTableRepository.findByIsActiveTrue()) {
+            if (alert.getEndDate() != null) queue.add(Expiry.of(alert));
+        }
+        log.debug("Alert expiry queue reloaded with {} alerts", queue.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onAlertChanged(AlertChangedEvent event) {
+        if (event.getType() != AlertChangedEvent.Type.CREATED && event.getType() != AlertChangedEvent.Type.UPDATED) return;
+
+        AlertTable alert = event.getAlert();
+        if (alert.isActive() && alert.getEndDate() != null) queue.add(Expiry.of(alert));
+    }
+
+    @Scheduled(fixedDelayString = "${alert.expiry.tick-ms:5000}")
+    public void deactivateExpired() {
+        List<Long> due = pollDue(System.currentTimeMillis());
+        if (due.isEmpty()) return;
+
+        try {
+            ZonedDateTime now = ZonedDateTime.now();
+            List<AlertTable> deactivated = new ArrayList<>();
+            for (AlertTable alert : alertTableRepository.findAllById(due)) {
+                if (alert.isActive() && alert.getEndDate() != null && !alert.getEndDate().isAfter(now)) {
+                    alert.setActive(false);
+                    deactivated.add(alert);
+                }
+            }
+            alertTableRepository.saveAll(deactivated);
+            deactivated.forEach(alert -> eventPublisher.publishEvent(new AlertChangedEvent(AlertChangedEvent.Type.DEACTIVATED, alert)));
+            expired.increment(deactivated.size());
+            if (!deactivated.isEmpty()) log.info("Deactivated {} expired alerts", deactivated.size());
+        } catch (Exception e) {
+            log.error("Error deactivating expired alerts: {}", e.getMessage(), e);
+        }
+    }
+
+    private synchronized List<Long> pollDue(long nowMillis) {
+        List<Long> due = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().endMillis <= nowMillis) {
+            due.add(queue.poll().alertId);
+        }
+        return due;
+    }
+
+    private synchronized int size() {
+        return queue.size();
+    }
+
+    private static final class Expiry {
+        private final long alertId;
+        private final long endMillis;
+
+        private Expiry(long alertId, long endMillis) {
+            this.alertId = alertId;
+            this.endMillis = endMillis;
+        }
+
+        private static Expiry of(AlertTable alert) {
+            return new Expiry(alert.getId(), alert.getEndDate().toInstant().toEpochMilli());
+        }
+    }
+}
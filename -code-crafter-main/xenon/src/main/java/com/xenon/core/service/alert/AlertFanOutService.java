@@ -0,0 +1,114 @@
+package com.xenon.core.service.alert;
+
+import com.xenon.core.service.healthAuthorization.AlertChangedEvent;
+import com.xenon.data.entity.alert.AlertSeverity;
+import com.xenon.data.entity.alert.AlertTable;
+import com.xenon.data.repository.UserLocationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes a published or edited alert to every location-sharing user inside its circle as soon as the write
+ * commits, instead of waiting for those users to move or for the periodic sweep to reach them. Users are
+ * found with one spatial query and notified in chunks, each committed on its own, so the first users are
+ * notified while the rest of a large fan-out is still being written. Fan-outs run in the lane of the alert's
+ * severity (see {@link SeverityLaneExecutor}), and the time from the alert change to each written chunk is
+ * recorded per severity.
+ */
+@Slf4j
+@Service
+public class AlertFanOutService {
+
+    private final UserLocationRepository userLocationRepository;
+    private final AlertNotificationWriter alertNotificationWriter;
+    private final SeverityLaneExecutor laneExecutor;
+    private final int chunkSize;
+    private final Timer fanOutTimer;
+    private final Counter notifiedUsers;
+    private final Map<AlertSeverity, Timer> timeToNotify = new EnumMap<>(AlertSeverity.class);
+
+    public AlertFanOutService(UserLocationRepository userLocationRepository,
+                              AlertNotificationWriter alertNotificationWriter,
+                              SeverityLaneExecutor laneExecutor,
+                              @Value("${alert.fan-out.chunk-size:1000}") int chunkSize,
+                              MeterRegistry meterRegistry) {
+        this.userLocationRepository = userLocationRepository;
+        this.alertNotificationWriter = alertNotificationWriter;
+        this.laneExecutor = laneExecutor;
+        this.chunkSize = chunkSize;
+        this.fanOutTimer = meterRegistry.timer("xenon.alert.fan_out");
+        this.notifiedUsers = meterRegistry.counter("xenon.alert.fan_out.users");
+        for (AlertSeverity severity : AlertSeverity.values()) {
+            timeToNotify.put(severity, Timer.builder("xenon.alert.time_to_notify")
+                    .tag("severity", severity.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlertChanged(AlertChangedEvent event) {
+        if (event.getType() != AlertChangedEvent.Type.CREATED && event.getType() != AlertChangedEvent.Type.UPDATED) return;
+
+        AlertTable alert = event.getAlert();
+        if (!isLive(alert, ZonedDateTime.now())) return;
+
+        laneExecutor.submit(alert.getSeverityLevel(), () -> {
+            try {
+                fanOutTimer.record(() -> {
+                    int users = fanOut(alert, 0, 1, event.getPublishedAt());
+                    log.info("Alert {} fanned out to {} users", alert.getId(), users);
+                });
+            } catch (Exception e) {
+                log.error("Error fanning out alert {}: {}", alert.getId(), e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Notifies every location-sharing user inside the alert circle and returns how many users were matched.
+     */
+    public int fanOut(AlertTable alert) {
+        return fanOut(alert, 0, 1);
+    }
+
+    /**
+     * Same as {@link #fanOut(AlertTable)}, limited to the users of one user-id partition.
+     */
+    public int fanOut(AlertTable alert, int partition, int partitions) {
+        return fanOut(alert, partition, partitions, null);
+    }
+
+    private int fanOut(AlertTable alert, int partition, int partitions, Long changedAt) {
+        List<Long> userIds = userLocationRepository.findUserIdsWithinRadius(
+                alert.getLatitude(), alert.getLongitude(), alert.getRadius(), partition, partitions);
+        Timer notifyTimer = timeToNotify.get(alert.getSeverityLevel() != null ? alert.getSeverityLevel() : AlertSeverity.MEDIUM);
+
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+            alertNotificationWriter.notifyUsers(alert.getId(), chunk);
+            notifiedUsers.increment(chunk.size());
+            if (changedAt != null) notifyTimer.record(System.nanoTime() - changedAt, TimeUnit.NANOSECONDS);
+        }
+        log.debug("Alert {} fanned out to {} users in partition {}/{}", alert.getId(), userIds.size(), partition, partitions);
+        return userIds.size();
+    }
+
+    public boolean isLive(AlertTable alert, ZonedDateTime now) {
+        return alert.isActive()
+                && (alert.getStartDate() == null || !alert.getStartDate().isAfter(now))
+                && (alert.getEndDate() == null || !alert.getEndDate().isBefore(now));
+    }
+}
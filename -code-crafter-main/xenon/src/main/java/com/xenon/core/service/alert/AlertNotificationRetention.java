@@ -0,0 +1,93 @@
+package com.xenon.core.service.alert;
+
+import com.xenon.data.repository.UserAlertNotificationPartitionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Keeps the monthly partitions of {@code user_alert_notification} in shape: partitions are created a few
+ * months ahead of time so inserts never miss one, and partitions that fall completely outside the retention
+ * window are dropped whole. Notifications of a month whose partition is missing go to the default partition
+ * and are moved into their own partition by the next run, so a failed run never blocks inserts; failed runs
+ * are counted in {@code xenon.alert.notification.partition_maintenance_failures}. Every node schedules the
+ * run, but an advisory lock lets only one of them maintain the partitions at a time. Queries pass
+ * {@link #retainedSince()} as a lower bound on {@code created_at}, so the planner prunes partitions that are
+ * about to be dropped.
+ */
+@Slf4j
+@Component
+public class AlertNotificationRetention {
+
+    private final UserAlertNotificationPartitionRepository partitionRepository;
+    private final int retentionMonths;
+    private final int premakeMonths;
+    private final Counter droppedPartitions;
+    private final Counter maintenanceFailures;
+
+    public AlertNotificationRetention(UserAlertNotificationPartitionRepository partitionRepository,
+                                      @Value("${alert.notification-retention.months:12}") int retentionMonths,
+                                      @Value("${alert.notification-retention.premake-months:3}") int premakeMonths,
+                                      MeterRegistry meterRegistry) {
+        this.partitionRepository = partitionRepository;
+        this.retentionMonths = retentionMonths;
+        this.premakeMonths = premakeMonths;
+        this.droppedPartitions = meterRegistry.counter("xenon.alert.notification.partitions_dropped");
+        this.maintenanceFailures = meterRegistry.counter("xenon.alert.notification.partition_maintenance_failures");
+    }
+
+    /**
+     * Start of the oldest month whose notifications are kept.
+     */
+    public ZonedDateTime retainedSince() {
+        return oldestRetainedMonth().atDay(1).atStartOfDay(ZoneId.systemDefault());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${alert.notification-retention.interval-ms:21600000}", initialDelayString = "${alert.notification-retention.interval-ms:21600000}")
+    public void maintainPartitions() {
+        try {
+            if (!partitionRepository.runExclusively(this::runMaintenance)) {
+                log.debug("Skipped alert notification partition maintenance, another node is running it");
+            }
+        } catch (Exception e) {
+            maintenanceFailures.increment();
+            log.error("Error maintaining alert notification partitions: {}", e.getMessage(), e);
+        }
+    }
+
+    private void runMaintenance() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            partitionRepository.createPartition(current.plusMonths(i));
+        }
+        for (YearMonth month : partitionRepository.findDefaultPartitionMonths()) {
+            log.warn("Moving alert notifications of {} out of the default partition", month);
+            partitionRepository.createPartition(month);
+        }
+
+        YearMonth oldestRetained = oldestRetainedMonth();
+        for (YearMonth month : partitionRepository.findPartitionMonths()) {
+            if (!month.isBefore(oldestRetained)) break;
+            partitionRepository.dropPartition(month);
+            droppedPartitions.increment();
+            log.info("Dropped alert notification partition of {}", month);
+        }
+
+        int keys = partitionRepository.deleteKeysOfAlertsEndedBefore(retainedSince());
+        if (keys > 0) log.debug("Removed {} notification keys of alerts that ended before the retention window", keys);
+    }
+
+    private YearMonth oldestRetainedMonth() {
+        return YearMonth.now().minusMonths(retentionMonths);
+    }
+}
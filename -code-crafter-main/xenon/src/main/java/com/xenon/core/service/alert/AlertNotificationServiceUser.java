@@ -2,6 +2,7 @@ package com.xenon.core.service.alert;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface AlertNotificationServiceUser {
     /**
@@ -28,6 +29,13 @@ public interface AlertNotificationServiceUser {
      */
     ResponseEntity<?> getUnreadAlertNotifications();
 
+    /**
+     * Open a Server-Sent Events stream on which the current user's new alert notifications are pushed
+     *
+     * @return Emitter bound to the current user
+     */
+    SseEmitter streamAlertNotifications();
+
     /**
      * Mark a specific notification as read
      *
@@ -0,0 +1,210 @@
+package com.xenon.core.service.alert;
+
+import com.xenon.core.domain.response.alert.UserAlertNotificationResponse;
+import com.xenon.data.entity.alert.AlertTable;
+import com.xenon.data.entity.alert.UserAlertNotification;
+import com.xenon.data.repository.AlertTableRepository;
+import com.xenon.data.repository.UserAlertNotificationBatchRepository.CreatedNotification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-user registry of Server-Sent Events connections for alert notifications. Notifications are pushed to
+ * every open connection of their user once they are committed. Each connection has a bounded send queue
+ * drained by a small sender pool, so a slow client can never block the writer of a notification; a client
+ * that falls a full queue behind is disconnected and is expected to reconnect and reload its unread list.
+ * Idle connections receive periodic heartbeats, and connections that complete, time out or fail to send are
+ * removed.
+ */
+@Slf4j
+@Component
+public class AlertNotificationStreamRegistry {
+
+    public static final String NOTIFICATION_EVENT = "alert-notification";
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AlertTableRepository alertTableRepository;
+    private final ExecutorService sender;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final int maxConnectionsPerUser;
+    private final Counter pushed;
+    private final Counter dropped;
+
+    public AlertNotificationStreamRegistry(AlertTableRepository alertTableRepository,
+                                           @Value("${alert.stream.timeout-ms:900000}") long timeoutMillis,
+                                           @Value("${alert.stream.queue-capacity:32}") int queueCapacity,
+                                           @Value("${alert.stream.max-connections-per-user:3}") int maxConnectionsPerUser,
+                                           @Value("${alert.stream.sender-threads:2}") int senderThreads,
+                                           MeterRegistry meterRegistry) {
+        this.alertTableRepository = alertTableRepository;
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "AlertStream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pushed = meterRegistry.counter("xenon.alert.stream.events", "result", "pushed");
+        this.dropped = meterRegistry.counter("xenon.alert.stream.events", "result", "dropped");
+        Gauge.builder("xenon.alert.stream.connections", connectionCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Opens a new stream for the user. When the user already has the maximum number of streams, the oldest is
+     * closed.
+     */
+    public SseEmitter register(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter, new ArrayBlockingQueue<>(queueCapacity));
+
+        Set<Connection> userConnections = connections.compute(userId, (key, existing) -> {
+            Set<Connection> set = existing != null ? existing : new CopyOnWriteArraySet<>();
+            set.add(connection);
+            return set;
+        });
+        connectionCount.incrementAndGet();
+        for (Connection oldest : userConnections) {
+            if (userConnections.size() <= maxConnectionsPerUser) break;
+            oldest.close();
+        }
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(error -> remove(connection));
+
+        connection.enqueue(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationsCreated(AlertNotificationsCreatedEvent event) {
+        List<CreatedNotification> deliverable = event.getNotifications().stream()
+                .filter(notification -> connections.containsKey(notification.getUserId()))
+                .collect(Collectors.toList());
+        if (deliverable.isEmpty()) return;
+
+        Set<Long> alertIds = deliverable.stream().map(CreatedNotification::getAlertId).collect(Collectors.toSet());
+        Map<Long, AlertTable> alerts = alertTableRepository.findAllById(alertIds).stream()
+                .collect(Collectors.toMap(AlertTable::getId, Function.identity()));
+
+        for (CreatedNotification created : deliverable) {
+            AlertTable alert = alerts.get(created.getAlertId());
+            Set<Connection> userConnections = connections.get(created.getUserId());
+            if (alert == null || userConnections == null) continue;
+
+            UserAlertNotificationResponse response = toResponse(created, alert);
+            for (Connection connection : userConnections) {
+                connection.enqueue(SseEmitter.event().id(String.valueOf(created.getId())).name(NOTIFICATION_EVENT).data(response));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${alert.stream.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        for (Set<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                connection.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(Connection::close));
+        sender.shutdownNow();
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (key, userConnections) -> {
+            if (userConnections.remove(connection)) connectionCount.decrementAndGet();
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private static UserAlertNotificationResponse toResponse(CreatedNotification created, AlertTable alert) {
+        UserAlertNotification notification = new UserAlertNotification();
+        notification.setId(created.getId());
+        notification.setAlert(alert);
+        notification.setCreatedAt(created.getCreatedAt());
+        return UserAlertNotificationResponse.fromEntity(notification);
+    }
+
+    private final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Connection(Long userId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> queue) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) return;
+            if (!queue.offer(event)) {
+                dropped.increment();
+                log.debug("Alert stream of user {} fell behind, closing it", userId);
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) sender.execute(this::drain);
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                    pushed.increment();
+                }
+            } catch (Exception e) {
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // An event offered after the last poll but before the flag was cleared still needs a drain
+            if (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true)) sender.execute(this::drain);
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) return;
+            queue.clear();
+            remove(this);
+            try {
+                emitter.complete();
+            } catch (Exception ignored) {
+                // the connection is already gone
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.xenon.core.service.alert;
+
+import com.xenon.data.repository.UserAlertNotificationBatchRepository.CreatedNotification;
+import com.xenon.data.repository.UserAlertNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Single entry point for creating alert notifications. Writes are set-based and idempotent per (user, alert),
+ * and only the notifications that were actually created are announced with an
+ * {@link AlertNotificationsCreatedEvent}.
+ */
+@Component
+@RequiredArgsConstructor
+public class AlertNotificationWriter {
+
+    private final UserAlertNotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Notifies one user about several alerts and returns how many notifications were created.
+     */
+    public int notifyUser(Long userId, Collection<Long> alertIds) {
+        if (alertIds.isEmpty()) return 0;
+        return publish(notificationRepository.insertIfAbsent(userId, alertIds));
+    }
+
+    /**
+     * Notifies several users about one alert and returns how many notifications were created.
+     */
+    public int notifyUsers(Long alertId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) return 0;
+        return publish(notificationRepository.insertForUsersIfAbsent(alertId, userIds));
+    }
+
+    private int publish(List<CreatedNotification> created) {
+        if (!created.isEmpty()) eventPublisher.publishEvent(new AlertNotificationsCreatedEvent(created));
+        return created.size();
+    }
+}
@@ -0,0 +1,18 @@
+package com.xenon.core.service.alert;
+
+import com.xenon.data.repository.UserAlertNotificationBatchRepository.CreatedNotification;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Event that is fired when alert notifications have been created for one or more users
+ */
+@Getter
+public class AlertNotificationsCreatedEvent {
+    private final List<CreatedNotification> notifications;
+
+    public AlertNotificationsCreatedEvent(List<CreatedNotification> notifications) {
+        this.notifications = notifications;
+    }
+}
@@ -0,0 +1,130 @@
+package com.xenon.core.service.alert;
+
+import com.xenon.core.service.location.UserLocationChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Work queue that evaluates user location changes against the active alerts. Only the latest pending
+ * position of each user is kept: a user who moves again before their previous position was evaluated simply
+ * replaces it, so a burst of updates from one user costs one evaluation. When the queue holds the maximum
+ * number of users, the publishing thread evaluates the location itself, which slows down the caller instead
+ * of rejecting the work.
+ */
+@Slf4j
+@Component
+public class LocationAlertQueue {
+
+    private final Map<Long, PendingLocation> pending = new ConcurrentHashMap<>();
+    private final BlockingQueue<Long> ready = new LinkedBlockingQueue<>();
+    private final AlertNotificationServiceUser alertNotificationService;
+    private final ExecutorService workers;
+    private final int capacity;
+    private final Counter queued;
+    private final Counter coalesced;
+    private final Counter callerRuns;
+    private final Timer latency;
+
+    public LocationAlertQueue(AlertNotificationServiceUser alertNotificationService,
+                              @Value("${alert.location-queue.capacity:10000}") int capacity,
+                              @Value("${alert.location-queue.workers:4}") int workerCount,
+                              MeterRegistry meterRegistry) {
+        this.alertNotificationService = alertNotificationService;
+        this.capacity = capacity;
+        this.queued = meterRegistry.counter("xenon.alert.location_queue.events", "result", "queued");
+        this.coalesced = meterRegistry.counter("xenon.alert.location_queue.events", "result", "coalesced");
+        this.callerRuns = meterRegistry.counter("xenon.alert.location_queue.events", "result", "caller_runs");
+        this.latency = meterRegistry.timer("xenon.alert.location_queue.latency");
+        Gauge.builder("xenon.alert.location_queue.depth", pending, Map::size).register(meterRegistry);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "AlertLocation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) workers.execute(this::work);
+    }
+
+    @EventListener
+    public void onUserLocationChanged(UserLocationChangedEvent event) {
+        Long userId = event.getUserId();
+        PendingLocation location = new PendingLocation(event.getLatitude(), event.getLongitude(), System.nanoTime());
+
+        if (pending.size() >= capacity && !pending.containsKey(userId)) {
+            callerRuns.increment();
+            evaluate(userId, location);
+            return;
+        }
+
+        PendingLocation previous = pending.put(userId, location.since(pending.get(userId)));
+        if (previous != null) {
+            coalesced.increment();
+        } else {
+            queued.increment();
+            ready.offer(userId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Long userId = ready.take();
+                PendingLocation location = pending.remove(userId);
+                if (location != null) evaluate(userId, location);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Error evaluating queued user location: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void evaluate(Long userId, PendingLocation location) {
+        try {
+            alertNotificationService.processNewLocationForAlerts(userId, location.latitude, location.longitude);
+        } finally {
+            latency.record(System.nanoTime() - location.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class PendingLocation {
+        private final double latitude;
+        private final double longitude;
+        private final long enqueuedAt;
+
+        private PendingLocation(double latitude, double longitude, long enqueuedAt) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        /**
+         * Keeps the enqueue time of the position this one replaces, so latency covers the whole wait.
+         */
+        private PendingLocation since(PendingLocation replaced) {
+            return replaced == null ? this : new PendingLocation(latitude, longitude, replaced.enqueuedAt);
+        }
+    }
+}
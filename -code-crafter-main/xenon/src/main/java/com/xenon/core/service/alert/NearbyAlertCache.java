@@ -0,0 +1,163 @@
+package com.xenon.core.service.alert;
+
+import com.xenon.common.util.GeoCircle;
+import com.xenon.common.util.GeoPoint;
+import com.xenon.core.domain.response.alert.AlertResponse;
+import com.xenon.data.repository.AlertTableRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of the candidate alerts of each {@link ActiveAlertIndex} grid cell, so users in the same
+ * neighbourhood share one alert load instead of each reading the alerts from the database. Entries are keyed
+ * by cell and time bucket, and are tagged with the index version they were built from: every alert create,
+ * update, deactivation or delete changes that version and so invalidates all entries. Dates and distances
+ * are checked per request against the cached candidates. Concurrent misses on one cell share a single load,
+ * which runs outside the map so other cells are never blocked on it. Stale entries, and then the least
+ * recently used ones above the cap, are dropped by a scheduled pass; while the cache is full, misses on new
+ * cells load their alerts without caching them.
+ */
+@Component
+public class NearbyAlertCache {
+
+    private final Map<Long, CellEntry> cells = new ConcurrentHashMap<>();
+    private final ActiveAlertIndex activeAlertIndex;
+    private final AlertTableRepository alertTableRepository;
+    private final long ttlMillis;
+    private final int maxCells;
+    private final Counter hits;
+    private final Counter misses;
+
+    public NearbyAlertCache(ActiveAlertIndex activeAlertIndex,
+                            AlertTableRepository alertTableRepository,
+                            @Value("${alert.nearby-cache.ttl-ms:30000}") long ttlMillis,
+                            @Value("${alert.nearby-cache.max-cells:10000}") int maxCells,
+                            MeterRegistry meterRegistry) {
+        this.activeAlertIndex = activeAlertIndex;
+        this.alertTableRepository = alertTableRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxCells = maxCells;
+        this.hits = meterRegistry.counter("xenon.alert.nearby_cache", "result", "hit");
+        this.misses = meterRegistry.counter("xenon.alert.nearby_cache", "result", "miss");
+        Gauge.builder("xenon.alert.nearby_cache.cells", cells, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Returns the alerts that are live at {@code now} and cover the point, each with its distance from the point.
+     */
+    public List<AlertResponse> findNearbyAlerts(double latitude, double longitude, ZonedDateTime now) {
+        long nowMillis = now.toInstant().toEpochMilli();
+        long version = activeAlertIndex.version();
+        long bucket = nowMillis / ttlMillis;
+        long cell = activeAlertIndex.cellOf(latitude, longitude);
+
+        CellEntry entry = cells.get(cell);
+        if (entry != null && entry.isValid(version, bucket)) {
+            hits.increment();
+        } else {
+            if (entry == null && cells.size() >= maxCells) {
+                CellEntry uncached = new CellEntry(version, bucket);
+                load(cell, uncached);
+                entry = uncached;
+            } else {
+                entry = loadShared(cell, version, bucket);
+            }
+        }
+        entry.lastUsedMillis = nowMillis;
+
+        GeoPoint point = GeoPoint.of(latitude, longitude);
+        List<AlertResponse> result = new ArrayList<>();
+        for (CandidateAlert candidate : entry.candidates.join()) {
+            if (candidate.isLiveAt(nowMillis) && candidate.circle.contains(point)) {
+                result.add(candidate.response.withDistanceFromUser(point.distanceKm(candidate.circle.getCenter())));
+            }
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${alert.nearby-cache.ttl-ms:30000}")
+    public void evict() {
+        long version = activeAlertIndex.version();
+        long bucket = System.currentTimeMillis() / ttlMillis;
+        cells.values().removeIf(entry -> !entry.isValid(version, bucket));
+        int excess = cells.size() - maxCells;
+        if (excess <= 0) return;
+
+        cells.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsedMillis))
+                .limit(excess)
+                .toList()
+                .forEach(entry -> cells.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private CellEntry loadShared(long cell, long version, long bucket) {
+        // Concurrent misses on the same cell wait for one load instead of each querying the database
+        CellEntry placeholder = new CellEntry(version, bucket);
+        CellEntry entry = cells.compute(cell, (key, existing) -> existing != null && existing.isValid(version, bucket) ? existing : placeholder);
+        if (entry == placeholder) load(cell, placeholder);
+        return entry;
+    }
+
+    private void load(long cell, CellEntry entry) {
+        misses.increment();
+        try {
+            List<Long> alertIds = activeAlertIndex.findCandidateAlertIds(cell);
+            List<CandidateAlert> candidates = new ArrayList<>(alertIds.size());
+            if (!alertIds.isEmpty()) {
+                alertTableRepository.findAllById(alertIds).forEach(alert -> candidates.add(new CandidateAlert(AlertResponse.fromEntity(alert))));
+            }
+            entry.candidates.complete(candidates);
+        } catch (RuntimeException e) {
+            // Callers waiting on this load fail with it; the next request loads the cell again
+            cells.remove(cell, entry);
+            entry.candidates.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static final class CellEntry {
+        private final long version;
+        private final long bucket;
+        private final CompletableFuture<List<CandidateAlert>> candidates = new CompletableFuture<>();
+        private volatile long lastUsedMillis;
+
+        private CellEntry(long version, long bucket) {
+            this.version = version;
+            this.bucket = bucket;
+        }
+
+        private boolean isValid(long currentVersion, long currentBucket) {
+            return version == currentVersion && bucket == currentBucket;
+        }
+    }
+
+    private static final class CandidateAlert {
+        private final AlertResponse response;
+        private final GeoCircle circle;
+        private final long startMillis;
+        private final long endMillis;
+
+        private CandidateAlert(AlertResponse response) {
+            this.response = response;
+            this.circle = GeoCircle.of(response.getLatitude(), response.getLongitude(), response.getRadius());
+            this.startMillis = response.getStartDate() == null ? Long.MIN_VALUE : response.getStartDate().toInstant().toEpochMilli();
+            this.endMillis = response.getEndDate() == null ? Long.MAX_VALUE : response.getEndDate().toInstant().toEpochMilli();
+        }
+
+        private boolean isLiveAt(long nowMillis) {
+            return response.isActive() && startMillis <= nowMillis && nowMillis <= endMillis;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.xenon.core.service.alert;
+
+import com.xenon.data.entity.alert.AlertSeverity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs alert delivery work in one lane per {@link AlertSeverity}. Workers always take the highest-severity
+ * task available, except that a task which has waited longer than the maximum wait is taken first, oldest
+ * first, so a steady stream of critical work cannot starve the lower lanes. When a lane is full the
+ * submitting thread runs the task itself.
+ */
+@Slf4j
+@Component
+public class SeverityLaneExecutor {
+
+    private static final AlertSeverity[] BY_PRIORITY = {
+            AlertSeverity.CRITICAL, AlertSeverity.HIGH, AlertSeverity.MEDIUM, AlertSeverity.LOW
+    };
+
+    private final Map<AlertSeverity, ArrayDeque<Task>> lanes = new EnumMap<>(AlertSeverity.class);
+    private final Map<AlertSeverity, Timer> waitTimers = new EnumMap<>(AlertSeverity.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final ExecutorService workers;
+    private final int laneCapacity;
+    private final long maxWaitNanos;
+
+    public SeverityLaneExecutor(@Value("${alert.fan-out.pool-size:2}") int poolSize,
+                                @Value("${alert.fan-out.queue-capacity:50}") int laneCapacity,
+                                @Value("${alert.fan-out.max-lane-wait-ms:30000}") long maxLaneWaitMillis,
+                                MeterRegistry meterRegistry) {
+        this.laneCapacity = laneCapacity;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxLaneWaitMillis);
+        for (AlertSeverity severity : AlertSeverity.values()) {
+            ArrayDeque<Task> lane = new ArrayDeque<>();
+            lanes.put(severity, lane);
+            waitTimers.put(severity, meterRegistry.timer("xenon.alert.lane.wait", "severity", severity.name()));
+            Gauge.builder("xenon.alert.lane.depth", lane, ArrayDeque::size)
+                    .tag("severity", severity.name())
+                    .register(meterRegistry);
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "AlertFanOut-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < poolSize; i++) workers.execute(this::work);
+    }
+
+    public void submit(AlertSeverity severity, Runnable runnable) {
+        AlertSeverity lane = severity != null ? severity : AlertSeverity.MEDIUM;
+        Task task = new Task(lane, runnable, System.nanoTime());
+
+        lock.lock();
+        try {
+            ArrayDeque<Task> queue = lanes.get(lane);
+            if (queue.size() < laneCapacity) {
+                queue.addLast(task);
+                notEmpty.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        run(task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                run(take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Task take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                Task next = next(System.nanoTime());
+                if (next != null) return next;
+                notEmpty.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Task next(long now) {
+        ArrayDeque<Task> overdue = null;
+        ArrayDeque<Task> highest = null;
+        for (AlertSeverity severity : BY_PRIORITY) {
+            ArrayDeque<Task> lane = lanes.get(severity);
+            Task head = lane.peekFirst();
+            if (head == null) continue;
+            if (highest == null) highest = lane;
+            if (now - head.enqueuedAt > maxWaitNanos
+                    && (overdue == null || head.enqueuedAt < overdue.peekFirst().enqueuedAt)) {
+                overdue = lane;
+            }
+        }
+        ArrayDeque<Task> lane = overdue != null ? overdue : highest;
+        return lane == null ? null : lane.pollFirst();
+    }
+
+    private void run(Task task) {
+        waitTimers.get(task.severity).record(System.nanoTime() - task.enqueuedAt, TimeUnit.NANOSECONDS);
+        try {
+            task.runnable.run();
+        } catch (Exception e) {
+            log.error("Error running {} alert task: {}", task.severity, e.getMessage(), e);
+        }
+    }
+
+    private static final class Task {
+        private final AlertSeverity severity;
+        private final Runnable runnable;
+        private final long enqueuedAt;
+
+        private Task(AlertSeverity severity, Runnable runnable, long enqueuedAt) {
+            this.severity = severity;
+            this.runnable = runnable;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.xenon.core.service.ambulance;
 
+import com.xenon.common.security.AuthenticatedPrincipal;
 import com.xenon.core.domain.exception.ApiException;
 import com.xenon.core.domain.exception.ClientException;
 import com.xenon.core.domain.exception.UnauthorizedException;
@@ -11,7 +12,6 @@ import com.xenon.data.entity.ambulance.Ambulance;
 import com.xenon.data.entity.ambulance.AmbulanceBooking;
 import com.xenon.data.entity.ambulance.AmbulanceBookingStatus;
 import com.xenon.data.entity.ambulance.AmbulanceStatus;
-import com.xenon.data.entity.user.User;
 import com.xenon.data.entity.user.UserRole;
 import com.xenon.data.repository.AmbulanceBookingRepository;
 import com.xenon.data.repository.AmbulanceRepository;
@@ -49,14 +49,13 @@ public class AmbulanceBookingServiceImpl extends BaseService implements Ambulanc
             AmbulanceBooking booking = ambulanceBookingRepository.save(body.toEntity(getCurrentUser(), ambulance));
             return success("Ambulance booking created successfully", booking.toResponse());
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
 
     @Override
     public ResponseEntity<?> updateBookingStatus(UpdateBookingStatusRequest body, AmbulanceBookingStatus status) {
-        User currentUser = getCurrentUser();
+        AuthenticatedPrincipal currentUser = getCurrentPrincipal();
 
         ambulanceRepository.findByUserId(currentUser.getId()).orElseThrow(() -> new ClientException("Ambulance not found"));
         AmbulanceBooking booking = ambulanceBookingRepository.findById(body.getBookingId())
@@ -86,7 +85,6 @@ public class AmbulanceBookingServiceImpl extends BaseService implements Ambulanc
             AmbulanceBooking updatedBooking = ambulanceBookingRepository.save(booking);
             return success("Booking status updated successfully", updatedBooking.toResponse());
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -95,7 +93,7 @@ public class AmbulanceBookingServiceImpl extends BaseService implements Ambulanc
     public ResponseEntity<?> getUserBookings(Pageable pageable) {
         try {
             Page<AmbulanceBooking> bookingsPage = ambulanceBookingRepository.findByUser_Id(
-                    getCurrentUser().getId(), pageable);
+                    getCurrentUserId(), pageable);
 
             List<Object> bookingResponses = bookingsPage.getContent().stream()
                     .map(AmbulanceBooking::toResponse)
@@ -111,14 +109,13 @@ public class AmbulanceBookingServiceImpl extends BaseService implements Ambulanc
 
             return success("User bookings retrieved successfully", pageResponse);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
 
     @Override
     public ResponseEntity<?> getAmbulanceBookings(Long ambulanceId, Pageable pageable) {
-        User currentUser = getCurrentUser();
+        AuthenticatedPrincipal currentUser = getCurrentPrincipal();
         Ambulance ambulance = ambulanceRepository.findById(ambulanceId)
                 .orElseThrow(() -> new ClientException("Ambulance not found"));
 
@@ -145,14 +142,13 @@ public class AmbulanceBookingServiceImpl extends BaseService implements Ambulanc
 
             return success("Ambulance bookings retrieved successfully", pageResponse);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
 
     @Override
     public ResponseEntity<?> getBookingDetails(Long bookingId) {
-        User currentUser = getCurrentUser();
+        AuthenticatedPrincipal currentUser = getCurrentPrincipal();
         AmbulanceBooking booking = ambulanceBookingRepository.findById(bookingId)
                 .orElseThrow(() -> new ClientException("Booking not found"));
 
@@ -164,14 +160,13 @@ public class AmbulanceBookingServiceImpl extends BaseService implements Ambulanc
         try {
             return success("Booking details retrieved successfully", booking.toResponse());
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
 
     @Override
     public ResponseEntity<?> cancelBooking(Long bookingId) {
-        User currentUser = getCurrentUser();
+        AuthenticatedPrincipal currentUser = getCurrentPrincipal();
         AmbulanceBooking booking = ambulanceBookingRepository.findById(bookingId)
                 .orElseThrow(() -> new ClientException("Booking not found"));
 
@@ -195,7 +190,6 @@ public class AmbulanceBookingServiceImpl extends BaseService implements Ambulanc
             AmbulanceBooking cancelledBooking = ambulanceBookingRepository.save(booking);
             return success("Booking cancelled successfully", cancelledBooking.toResponse());
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -207,12 +201,12 @@ public class AmbulanceBookingServiceImpl extends BaseService implements Ambulanc
         if (body.getAmbulanceId() == null) throw requiredField("Ambulance ID");
     }
 
-    private boolean isAmbulanceOwnerOrAdmin(User user, Ambulance ambulance) {
+    private boolean isAmbulanceOwnerOrAdmin(AuthenticatedPrincipal user, Ambulance ambulance) {
         return user.getRole() != UserRole.ADMIN &&
                 (user.getRole() != UserRole.AMBULANCE || !Objects.equals(user.getId(), ambulance.getUser().getId()));
     }
 
-    private boolean isBookingUserOrAmbulanceOwnerOrAdmin(User user, AmbulanceBooking booking) {
+    private boolean isBookingUserOrAmbulanceOwnerOrAdmin(AuthenticatedPrincipal user, AmbulanceBooking booking) {
         return user.getRole() != UserRole.ADMIN &&
                 !Objects.equals(user.getId(), booking.getUser().getId()) &&
                 (user.getRole() != UserRole.AMBULANCE || !Objects.equals(user.getId(), booking.getAmbulance().getUser().getId()));
@@ -42,13 +42,12 @@ public class AmbulanceServiceImpl extends BaseService implements AmbulanceServic
     public ResponseEntity<?> createAmbulanceRequest(CreateAmbulanceAccountRequest body) {
         if (getCurrentUserEmail() == null) throw new ClientException("Please update your profile first");
         validateCreateAmbulanceRequest(body);
-        userRepository.findById(getCurrentUser().getId()).orElseThrow(() -> new AuthException("User not found"));
+        userRepository.findById(getCurrentUserId()).orElseThrow(() -> new AuthException("User not found"));
 
         try {
             ambulanceRepository.save(body.toEntity(getCurrentUser()));
             return success("Ambulance created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -58,7 +57,7 @@ public class AmbulanceServiceImpl extends BaseService implements AmbulanceServic
         validateCreateAmbulanceReviewRequest(body);
 
         // Check if the user can review this ambulance (must have completed booking)
-        if (!canUserReviewAmbulance(getCurrentUser().getId(), body.getAmbulanceId())) {
+        if (!canUserReviewAmbulance(getCurrentUserId(), body.getAmbulanceId())) {
             throw new ClientException("You can only review ambulances that you have used (must have a completed booking)");
         }
 
@@ -69,7 +68,6 @@ public class AmbulanceServiceImpl extends BaseService implements AmbulanceServic
             ambulanceReviewRepository.save(body.toEntity(getCurrentUser(), ambulance));
             return success("Ambulance review created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -102,7 +100,6 @@ public class AmbulanceServiceImpl extends BaseService implements AmbulanceServic
                     )
             );
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -140,7 +137,6 @@ public class AmbulanceServiceImpl extends BaseService implements AmbulanceServic
 
             return success("Ambulance details retrieved successfully", response);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -176,7 +172,6 @@ public class AmbulanceServiceImpl extends BaseService implements AmbulanceServic
                     )
             );
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -205,7 +200,6 @@ public class AmbulanceServiceImpl extends BaseService implements AmbulanceServic
 
             return success("Ambulance reviews retrieved successfully", pageResponse);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -217,8 +211,8 @@ public class AmbulanceServiceImpl extends BaseService implements AmbulanceServic
                     .orElseThrow(() -> new ClientException("Ambulance not found"));
 
             // Check if the current user is the ambulance owner or an admin
-            if (getCurrentUser().getRole() != UserRole.ADMIN &&
-                    !Objects.equals(ambulance.getUser().getId(), getCurrentUser().getId())) {
+            if (getCurrentUserRole() != UserRole.ADMIN &&
+                    !Objects.equals(ambulance.getUser().getId(), getCurrentUserId())) {
                 throw new UnauthorizedException("You are not authorized to update this ambulance status");
             }
         try {
@@ -226,7 +220,6 @@ public class AmbulanceServiceImpl extends BaseService implements AmbulanceServic
             ambulanceRepository.save(ambulance);
             return success("Ambulance status updated successfully", ambulance.toResponse());
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -234,10 +227,9 @@ public class AmbulanceServiceImpl extends BaseService implements AmbulanceServic
     @Override
     public ResponseEntity<?> checkUserCanReview(Long ambulanceId) {
         try {
-            boolean canReview = canUserReviewAmbulance(getCurrentUser().getId(), ambulanceId);
+            boolean canReview = canUserReviewAmbulance(getCurrentUserId(), ambulanceId);
             return success("User review eligibility checked", canReview);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
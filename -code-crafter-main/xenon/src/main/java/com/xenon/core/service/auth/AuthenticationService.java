@@ -1,8 +1,40 @@
 package com.xenon.core.service.auth;
 
 import com.xenon.core.domain.request.auth.LoginRequest;
+import com.xenon.core.domain.request.auth.RefreshTokenRequest;
 import org.springframework.http.ResponseEntity;
 
 public interface AuthenticationService {
     ResponseEntity<?> login(LoginRequest body);
+
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh token
+     *
+     * @param body Request carrying the refresh token
+     * @return Response with the new token pair
+     */
+    ResponseEntity<?> refresh(RefreshTokenRequest body);
+
+    /**
+     * Revokes the caller's access token and, when supplied, the refresh token family it belongs to
+     *
+     * @param body Optional request carrying the refresh token
+     * @return Response indicating success or failure
+     */
+    ResponseEntity<?> logout(RefreshTokenRequest body);
+
+    /**
+     * Revokes every access and refresh token of the caller, signing them out on all devices
+     *
+     * @return Response indicating success or failure
+     */
+    ResponseEntity<?> logoutAll();
+
+    /**
+     * Revokes every access and refresh token of a user, e.g. after a ban or a password change
+     *
+     * @param userId ID of the user
+     * @param reason Reason recorded in the deny-list
+     */
+    void revokeAllTokens(Long userId, String reason);
 }
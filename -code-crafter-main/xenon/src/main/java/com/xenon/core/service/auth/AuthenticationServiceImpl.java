@@ -1,18 +1,31 @@
 package com.xenon.core.service.auth;
 
+import com.xenon.common.interceptor.PreAuthorizationInterceptor;
+import com.xenon.common.security.LoginRateLimiter;
+import com.xenon.common.security.TokenRevocationRegistry;
 import com.xenon.common.util.JwtUtil;
 import com.xenon.core.domain.exception.ApiException;
 import com.xenon.core.domain.exception.AuthException;
+import com.xenon.core.domain.model.ResponseMessage;
 import com.xenon.core.domain.request.auth.LoginRequest;
+import com.xenon.core.domain.request.auth.RefreshTokenRequest;
+import com.xenon.core.domain.response.auth.TokenResponse;
 import com.xenon.core.service.common.BaseService;
+import com.xenon.data.entity.auth.RefreshToken;
 import com.xenon.data.entity.user.User;
+import com.xenon.data.repository.RefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.Objects;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -21,27 +34,111 @@ public class AuthenticationServiceImpl extends BaseService implements Authentica
 
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final LoginRateLimiter loginRateLimiter;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
     @Override
     public ResponseEntity<?> login(LoginRequest body) {
-        validateLoginRequest(body);
+        loginRateLimiter.acquire(request.getRemoteAddr(), body == null ? null : body.getPhone());
+        User user = validateLoginRequest(body);
+
+        try {
+            return success("Logged in successfully", issueTokens(user, UUID.randomUUID().toString()));
+        } catch (Exception e) {
+            throw new ApiException(e);
+        }
+    }
+
+    @Override
+    public ResponseEntity<?> refresh(RefreshTokenRequest body) {
+        validateBody(body);
+        if (isNullOrBlank(body.getRefreshToken())) throw requiredField("refreshToken");
+
+        ZonedDateTime now = ZonedDateTime.now();
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(JwtUtil.sha256Hex(body.getRefreshToken()))
+                .orElseThrow(() -> new AuthException(ResponseMessage.SESSION_EXPIRED));
+
+        if (refreshToken.getUsedAt() != null) {
+            // A rotated token was presented again: treat the family as stolen
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId(), now);
+            log.warn("Refresh token reuse detected for user {}, family revoked", refreshToken.getUserId());
+            throw new AuthException(ResponseMessage.TOKEN_REVOKED);
+        }
+        if (!refreshToken.isUsable(now) || refreshTokenRepository.markUsed(refreshToken.getId(), now) == 0) {
+            throw new AuthException(ResponseMessage.SESSION_EXPIRED);
+        }
+
+        User user = userRepository.findById(refreshToken.getUserId())
+                .orElseThrow(() -> new AuthException(ResponseMessage.SESSION_DATA_MISMATCH));
+
+        try {
+            return success("Token refreshed successfully", issueTokens(user, refreshToken.getFamilyId()));
+        } catch (Exception e) {
+            throw new ApiException(e);
+        }
+    }
 
+    @Override
+    public ResponseEntity<?> logout(RefreshTokenRequest body) {
+        String token = PreAuthorizationInterceptor.extractBearerToken(request);
+
+        try {
+            tokenRevocationRegistry.revoke(jwtUtil.verify(token), getCurrentUserId(), "LOGOUT");
+            if (body != null && !isNullOrBlank(body.getRefreshToken())) {
+                refreshTokenRepository.findByTokenHash(JwtUtil.sha256Hex(body.getRefreshToken()))
+                        .filter(refreshToken -> refreshToken.getUserId().equals(getCurrentUserId()))
+                        .ifPresent(refreshToken -> refreshTokenRepository.revokeFamily(refreshToken.getFamilyId(), ZonedDateTime.now()));
+            }
+            return success("Logged out successfully", null);
+        } catch (Exception e) {
+            throw new ApiException(e);
+        }
+    }
+
+    @Override
+    public ResponseEntity<?> logoutAll() {
         try {
-            String token = jwtUtil.generateAccessToken(body.getPhone());
-            return success("Logged in successfully", token);
+            revokeAllTokens(getCurrentUserId(), "LOGOUT_ALL");
+            return success("Logged out of all sessions successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
 
-    private void validateLoginRequest(LoginRequest body) {
+    @Override
+    public void revokeAllTokens(Long userId, String reason) {
+        refreshTokenRepository.revokeAllForUser(userId, ZonedDateTime.now());
+        tokenRevocationRegistry.revokeAllForUser(userId, reason);
+    }
+
+    @Scheduled(cron = "${security.jwt.refresh-token-purge-cron:0 30 3 * * *}")
+    public void purgeExpiredRefreshTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(ZonedDateTime.now());
+        if (deleted > 0) log.info("Purged {} expired refresh tokens", deleted);
+    }
+
+    private TokenResponse issueTokens(User user, String familyId) {
+        byte[] secret = new byte[32];
+        SECURE_RANDOM.nextBytes(secret);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+
+        ZonedDateTime expiresAt = ZonedDateTime.now().plus(Duration.ofMillis(jwtUtil.getMaxTokenLifetimeMillis()));
+        refreshTokenRepository.save(new RefreshToken(JwtUtil.sha256Hex(refreshToken), familyId, user.getId(), expiresAt));
+
+        return new TokenResponse(jwtUtil.generateAccessToken(user), refreshToken, jwtUtil.getAccessTokenValidityMillis() / 1000);
+    }
+
+    private User validateLoginRequest(LoginRequest body) {
         super.validateBody(body);
 
         if (isNullOrBlank(body.getPhone())) throw requiredField("phone");
         if (!PHONE_PATTERN.matcher(body.getPhone()).matches()) throw clientException("Invalid phone number");
+        if (isNullOrBlank(body.getPassword())) throw requiredField("password");
         User user = userRepository.findByPhone(body.getPhone()).orElseThrow(() -> new AuthException("Phone number does not exist!"));
         if (!passwordEncoder.matches(body.getPassword(), user.getPassword())) throw clientException("Incorrect password entered");
-        if (isNullOrBlank(body.getPassword())) throw requiredField("password");
+        return user;
     }
 }
@@ -51,7 +51,6 @@ public class BlogServiceImpl extends BaseService implements BlogService {
             blogRepository.save(body.toEntity(getCurrentUser()));
             return success("Blog post created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -75,7 +74,7 @@ public class BlogServiceImpl extends BaseService implements BlogService {
 
     @Override
     public ResponseEntity<?> getUserBlogs(Pageable pageable) {
-        User user = userRepository.findById(getCurrentUser().getId())
+        User user = userRepository.findById(getCurrentUserId())
                 .orElseThrow(() -> clientException("User not found"));
 
         Page<Blog> blogPage = blogRepository.findAllByUser(user, pageable);
@@ -90,8 +89,8 @@ public class BlogServiceImpl extends BaseService implements BlogService {
         Blog blog = blogRepository.findById(id)
                 .orElseThrow(() -> new ClientException("Blog not found with id: " + id));
 
-        if (!blog.getUser().getId().equals(getCurrentUser().getId()) &&
-                !getCurrentUser().getRole().equals(UserRole.ADMIN)) {
+        if (!blog.getUser().getId().equals(getCurrentUserId()) &&
+                !getCurrentUserRole().equals(UserRole.ADMIN)) {
             throw new UnauthorizedException("You are not authorized to update this blog");
         }
 
@@ -107,7 +106,6 @@ public class BlogServiceImpl extends BaseService implements BlogService {
             Blog savedBlog = blogRepository.save(blog);
             return success("Blog updated successfully", convertToBlogResponseRequest(savedBlog));
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -118,8 +116,8 @@ public class BlogServiceImpl extends BaseService implements BlogService {
         Blog blog = blogRepository.findById(id)
                 .orElseThrow(() -> new ClientException("Blog not found with id: " + id));
 
-        if (!blog.getUser().getId().equals(getCurrentUser().getId()) &&
-                !getCurrentUser().getRole().equals(UserRole.ADMIN)) {
+        if (!blog.getUser().getId().equals(getCurrentUserId()) &&
+                !getCurrentUserRole().equals(UserRole.ADMIN)) {
             throw new UnauthorizedException("You are not authorized to delete this blog");
         }
 
@@ -210,7 +208,6 @@ public class BlogServiceImpl extends BaseService implements BlogService {
         try {
             return success("Blog posts retrieved successfully", pageResponseRequest);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -42,7 +42,7 @@ public class CommentServiceImpl extends BaseService implements CommentService {
 
             CommentResponseRequest commentResponseRequest = new CommentResponseRequest(
                     comment.getId(),
-                    getCurrentUser().getId(),
+                    getCurrentUserId(),
                     getCurrentUser().getFirstName() + " " + getCurrentUser().getLastName(),
                     comment.getContent(),
                     comment.getCreatedAt()
@@ -50,7 +50,6 @@ public class CommentServiceImpl extends BaseService implements CommentService {
 
             return success("Comment created successfully", commentResponseRequest);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -154,7 +153,7 @@ public class CommentServiceImpl extends BaseService implements CommentService {
 
         Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new ClientException("Comment not found with id: " + commentId));
 
-        if (!comment.getUser().getId().equals(getCurrentUser().getId())) {
+        if (!comment.getUser().getId().equals(getCurrentUserId())) {
             throw new UnauthorizedException("You are not authorized to update this comment");
         }
 
@@ -164,14 +163,13 @@ public class CommentServiceImpl extends BaseService implements CommentService {
             commentRepository.save(comment);
             CommentResponseRequest commentResponseRequest = new CommentResponseRequest(
                     comment.getId(),
-                    getCurrentUser().getId(),
+                    getCurrentUserId(),
                     getCurrentUser().getFirstName() + " " + getCurrentUser().getLastName(),
                     comment.getContent(),
                     comment.getCreatedAt());
 
             return success("Comment updated successfully", commentResponseRequest);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -183,8 +181,8 @@ public class CommentServiceImpl extends BaseService implements CommentService {
                 .orElseThrow(() -> new ClientException("Comment not found with id: " + commentId));
 
         // Check if the current user is the owner of the comment or an admin
-        if (!comment.getUser().getId().equals(getCurrentUser().getId()) &&
-                !getCurrentUser().getRole().name().equals("ADMIN")) {
+        if (!comment.getUser().getId().equals(getCurrentUserId()) &&
+                !getCurrentUserRole().name().equals("ADMIN")) {
             throw new UnauthorizedException("You are not authorized to delete this comment");
         }
 
@@ -192,7 +190,6 @@ public class CommentServiceImpl extends BaseService implements CommentService {
             commentRepository.delete(comment);
             return success("Comment deleted successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -53,7 +53,6 @@ public class LikeServiceImpl extends BaseService implements LikeService {
             likeRepository.save(like);
             return success("Blog liked successfully", new LikeStatus(true, likeRepository.countByBlog(blog)));
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -135,7 +134,6 @@ public class LikeServiceImpl extends BaseService implements LikeService {
 
             return success("Most liked blogs retrieved successfully", blogResponseRequests);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -161,7 +159,6 @@ public class LikeServiceImpl extends BaseService implements LikeService {
         } catch (IllegalArgumentException e) {
             throw clientException("Invalid category: " + category);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }*/
@@ -36,7 +36,7 @@ public class DoctorArticleServiceImpl extends BaseService implements DoctorArtic
 
         validateCreateBlogPostRequest(body);
 
-        if (getCurrentUser().getRole() != UserRole.DOCTOR)
+        if (getCurrentUserRole() != UserRole.DOCTOR)
             throw new UnauthorizedException("Only doctors can create articles");
 
         try {
@@ -44,7 +44,6 @@ public class DoctorArticleServiceImpl extends BaseService implements DoctorArtic
             blogRepository.save(body.toEntity(getCurrentUser()));
             return success("Blog post created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -57,7 +56,6 @@ public class DoctorArticleServiceImpl extends BaseService implements DoctorArtic
         try {
             return success("Blog posts retrieved successfully", blogRepository.findAllByCategory(PostCategory.DOCTOR_ARTICLE, pageable));
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -96,7 +94,7 @@ public class DoctorArticleServiceImpl extends BaseService implements DoctorArtic
 
     @Override
     public ResponseEntity<?> deleteArticle(Long id) {
-        if (isNotDoctor() && getCurrentUser().getRole() != UserRole.ADMIN)
+        if (isNotDoctor() && getCurrentUserRole() != UserRole.ADMIN)
             throw new UnauthorizedException("Only doctors or admins can delete articles");
 
         return blogService.deleteBlog(id);
@@ -118,13 +116,12 @@ public class DoctorArticleServiceImpl extends BaseService implements DoctorArtic
         try {
             return blogService.getAllBlogs(pageable);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
 
     private boolean isNotDoctor() {
-        return getCurrentUser().getRole() != UserRole.DOCTOR;
+        return getCurrentUserRole() != UserRole.DOCTOR;
     }
 
     private void validateCreateBlogPostRequest(DoctorArticlePost body) {
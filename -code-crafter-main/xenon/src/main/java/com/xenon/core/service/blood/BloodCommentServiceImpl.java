@@ -31,7 +31,6 @@ public class BloodCommentServiceImpl extends BaseService implements BloodComment
             bloodCommentRepository.save(body.toEntity(getCurrentUser(), post));
             return success("Response created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -45,7 +45,6 @@ public class BloodRequestPostServiceImpl extends BaseService implements BloodReq
             bloodRequestPostRepository.save(body.toEntity(getCurrentUser(), upazila));
             return success("Request created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -89,7 +88,6 @@ public class BloodRequestPostServiceImpl extends BaseService implements BloodReq
 
             return success("Blood request posts retrieved successfully", pageResponse);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -98,7 +96,7 @@ public class BloodRequestPostServiceImpl extends BaseService implements BloodReq
     public ResponseEntity<?> getBloodPostPage(Pageable pageable) {
         try {
             Page<BloodRequestPost> postsPage = bloodRequestPostRepository.findAllByUser_Id(
-                    getCurrentUser().getId(), pageable);
+                    getCurrentUserId(), pageable);
 
             List<Long> postIds = postsPage.getContent().stream()
                     .map(BloodRequestPost::getId)
@@ -120,7 +118,6 @@ public class BloodRequestPostServiceImpl extends BaseService implements BloodReq
 
             return success("User blood request posts retrieved successfully", pageResponse);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -134,7 +131,6 @@ public class BloodRequestPostServiceImpl extends BaseService implements BloodReq
 
             return success("Blood requests by type retrieved successfully", pageResponse);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -148,7 +144,6 @@ public class BloodRequestPostServiceImpl extends BaseService implements BloodReq
 
             return success("Blood requests by location retrieved successfully", pageResponse);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -163,7 +158,6 @@ public class BloodRequestPostServiceImpl extends BaseService implements BloodReq
 
             return success("Blood requests by type and location retrieved successfully", pageResponse);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -186,7 +180,6 @@ public class BloodRequestPostServiceImpl extends BaseService implements BloodReq
             return success("Blood request details retrieved successfully",
                     post.toResponse(commentResponses));
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
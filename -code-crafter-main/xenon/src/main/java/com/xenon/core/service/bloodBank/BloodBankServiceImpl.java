@@ -34,7 +34,6 @@ public class BloodBankServiceImpl extends BaseService implements BloodBankServic
             bloodBankRepository.save(body.toEntity(getCurrentUser()));
             return success("Blood Bank created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -48,7 +47,6 @@ public class BloodBankServiceImpl extends BaseService implements BloodBankServic
 
             return success("Blood banks retrieved successfully", pageResponse);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -62,7 +60,6 @@ public class BloodBankServiceImpl extends BaseService implements BloodBankServic
 
             return success("Blood banks by location retrieved successfully", pageResponse);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -76,7 +73,6 @@ public class BloodBankServiceImpl extends BaseService implements BloodBankServic
 
             return success("Blood bank details retrieved successfully", response);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
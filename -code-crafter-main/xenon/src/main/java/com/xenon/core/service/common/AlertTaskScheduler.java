@@ -1,59 +1,201 @@
 package com.xenon.core.service.common;
 
-import com.xenon.core.service.alert.AlertNotificationServiceUser;
-import com.xenon.data.entity.alert.UserLocation;
+import com.xenon.core.service.alert.ActiveAlertIndex;
+import com.xenon.core.service.alert.AlertFanOutService;
+import com.xenon.core.service.alert.AlertNotificationWriter;
+import com.xenon.data.entity.alert.AlertTable;
+import com.xenon.data.repository.AlertSweepLeaseRepository;
+import com.xenon.data.repository.AlertSweepLeaseRepository.Lease;
+import com.xenon.data.repository.AlertTableRepository;
 import com.xenon.data.repository.UserLocationRepository;
-import lombok.RequiredArgsConstructor;
+import com.xenon.data.repository.UserLocationRepository.LocationPoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.net.InetAddress;
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
- * Scheduled task to periodically check for new alerts for users who have
- * location sharing enabled.
+ * Scheduled task that catches up on alert notifications the event-driven paths may have missed. Each run
+ * only evaluates what changed since the previous one: users whose location moved since the watermark are
+ * checked against all active alerts, and alerts that changed or became live since the watermark are
+ * checked against all users.
+ * <p>
+ * Users are split into partitions by user id. Every instance polls for partitions that are due and leases
+ * at most its fair share (partitions / live instances), so a sweep is spread across the cluster and each
+ * partition is processed by exactly one instance. A partition leased by an instance that dies becomes
+ * claimable again once its lease expires, and resumes from its stored watermark. A sweep renews its lease
+ * after every page and stops as soon as the lease is lost. Watermarks and due times are taken from the
+ * database clock, like the leases.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class AlertTaskScheduler {
 
     private final UserLocationRepository userLocationRepository;
-    private final AlertNotificationServiceUser alertNotificationService;
-    
+    private final AlertTableRepository alertTableRepository;
+    private final AlertNotificationWriter alertNotificationWriter;
+    private final AlertSweepLeaseRepository leaseRepository;
+    private final ActiveAlertIndex activeAlertIndex;
+    private final AlertFanOutService alertFanOutService;
+    private final String nodeId;
+    private final int partitions;
+    private final int pageSize;
+    private final Duration interval;
+    private final long leaseTtlMillis;
+    private final long nodeTtlMillis;
+    private final Duration commitLag;
+    private final Timer partitionTimer;
+    private final Counter partitionsSwept;
+    private final Counter locationsChecked;
+    private final Counter alertsChecked;
+    private final Counter usersMatched;
+
+    public AlertTaskScheduler(UserLocationRepository userLocationRepository,
+                              AlertTableRepository alertTableRepository,
+                              AlertNotificationWriter alertNotificationWriter,
+                              AlertSweepLeaseRepository leaseRepository,
+                              ActiveAlertIndex activeAlertIndex,
+                              AlertFanOutService alertFanOutService,
+                              @Value("${alert.sweep.partitions:16}") int partitions,
+                              @Value("${alert.sweep.page-size:500}") int pageSize,
+                              @Value("${alert.sweep.interval-ms:900000}") long intervalMillis,
+                              @Value("${alert.sweep.lease-ttl-ms:300000}") long leaseTtlMillis,
+                              @Value("${alert.sweep.node-ttl-ms:90000}") long nodeTtlMillis,
+                              @Value("${alert.sweep.commit-lag-ms:10000}") long commitLagMillis,
+                              MeterRegistry meterRegistry) {
+        this.userLocationRepository = userLocationRepository;
+        this.alertTableRepository = alertTableRepository;
+        this.alertNotificationWriter = alertNotificationWriter;
+        this.leaseRepository = leaseRepository;
+        this.activeAlertIndex = activeAlertIndex;
+        this.alertFanOutService = alertFanOutService;
+        this.nodeId = hostName() + "-" + UUID.randomUUID();
+        this.partitions = partitions;
+        this.pageSize = pageSize;
+        this.interval = Duration.ofMillis(intervalMillis);
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.nodeTtlMillis = nodeTtlMillis;
+        this.commitLag = Duration.ofMillis(commitLagMillis);
+        this.partitionTimer = meterRegistry.timer("xenon.alert.sweep");
+        this.partitionsSwept = meterRegistry.counter("xenon.alert.sweep.work", "kind", "partition");
+        this.locationsChecked = meterRegistry.counter("xenon.alert.sweep.work", "kind", "location");
+        this.alertsChecked = meterRegistry.counter("xenon.alert.sweep.work", "kind", "alert");
+        this.usersMatched = meterRegistry.counter("xenon.alert.sweep.work", "kind", "user_matched");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerPartitions() {
+        leaseRepository.ensurePartitions(partitions);
+        log.info("Alert sweep node {} sharing {} partitions", nodeId, partitions);
+    }
+
     /**
-     * Every 15 minutes, checks for active users and processes new alerts
-     * for them based on their current locations.
+     * Polls for due partitions and sweeps this node's share of them. Each partition is due once per
+     * sweep interval; the first sweep of a partition looks back one hour, like the full sweep it replaces.
      */
-    @Scheduled(fixedRate = 900000) // 15 minutes in milliseconds
+    @Scheduled(fixedDelayString = "${alert.sweep.poll-interval-ms:30000}", initialDelayString = "${alert.sweep.poll-interval-ms:30000}")
     public void checkActiveUsersForAlerts() {
-        log.info("Starting scheduled alert check for active users");
-        
         try {
-            // Find users whose location was updated in the last hour
-            ZonedDateTime oneHourAgo = ZonedDateTime.now().minusHours(1);
-            List<UserLocation> activeUsers = userLocationRepository.findActiveUserLocations(oneHourAgo);
-            
-            log.info("Found {} active users to check for alerts", activeUsers.size());
-            
-            for (UserLocation userLocation : activeUsers) {
-                try {
-                    alertNotificationService.processNewLocationForAlerts(
-                            userLocation.getUser().getId(),
-                            userLocation.getLatitude(),
-                            userLocation.getLongitude()
-                    );
-                } catch (Exception e) {
-                    log.error("Error processing alerts for user {}: {}", 
-                            userLocation.getUser().getId(), e.getMessage(), e);
-                }
+            int liveNodes = leaseRepository.heartbeat(nodeId, nodeTtlMillis);
+            int share = (partitions + liveNodes - 1) / liveNodes;
+
+            for (int i = 0; i < share; i++) {
+                Optional<Lease> lease = leaseRepository.claimDuePartition(nodeId, partitions, leaseTtlMillis);
+                if (lease.isEmpty()) break;
+                sweepPartition(lease.get());
             }
-            
-            log.info("Completed scheduled alert check for active users");
+            leaseRepository.deleteStaleNodes(nodeTtlMillis * 10);
         } catch (Exception e) {
             log.error("Error during scheduled alert check: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    private void sweepPartition(Lease lease) {
+        int partition = lease.getPartitionId();
+        ZonedDateTime sweepStart = leaseRepository.now();
+        // Rows are stamped when their transaction starts, so look back over writes that were still committing
+        ZonedDateTime since = lease.getWatermark() != null ? lease.getWatermark().minus(commitLag) : sweepStart.minusHours(1);
+
+        try {
+            partitionTimer.record(() -> {
+                int locations = sweepMovedUsers(partition, since, sweepStart);
+                int alerts = sweepChangedAlerts(partition, since, sweepStart);
+                log.debug("Alert sweep of partition {} since {} checked {} moved locations and {} changed alerts",
+                        partition, since, locations, alerts);
+            });
+            leaseRepository.complete(partition, nodeId, sweepStart, sweepStart.plus(interval));
+            partitionsSwept.increment();
+        } catch (Exception e) {
+            leaseRepository.release(partition, nodeId);
+            log.error("Error sweeping alert partition {}: {}", partition, e.getMessage(), e);
+        }
+    }
+
+    private int sweepMovedUsers(int partition, ZonedDateTime since, ZonedDateTime now) {
+        int processed = 0;
+        ZonedDateTime afterWritten = since;
+        long afterId = 0L;
+        List<LocationPoint> page;
+
+        do {
+            page = userLocationRepository.findLocationsWrittenAfter(afterWritten, afterId, partition, partitions, PageRequest.of(0, pageSize));
+            for (LocationPoint location : page) {
+                List<Long> alertIds = activeAlertIndex.findCoveringAlertIds(location.getLatitude(), location.getLongitude(), now);
+                if (!alertIds.isEmpty()) {
+                    alertNotificationWriter.notifyUser(location.getUserId(), alertIds);
+                    usersMatched.increment();
+                }
+                afterWritten = location.getWrittenAt();
+                afterId = location.getId();
+            }
+            processed += page.size();
+            locationsChecked.increment(page.size());
+            renewLease(partition);
+        } while (page.size() == pageSize);
+
+        return processed;
+    }
+
+    private int sweepChangedAlerts(int partition, ZonedDateTime since, ZonedDateTime now) {
+        // Most severe alerts first, so a long sweep reaches their users earliest
+        List<AlertTable> changed = new ArrayList<>(alertTableRepository.findActiveAlertsChangedSince(since, now));
+        changed.sort(Comparator.comparing(AlertTable::getSeverityLevel, Comparator.nullsFirst(Comparator.naturalOrder())).reversed());
+        for (AlertTable alert : changed) {
+            if (!alertFanOutService.isLive(alert, now)) continue;
+            usersMatched.increment(alertFanOutService.fanOut(alert, partition, partitions));
+            renewLease(partition);
+        }
+        alertsChecked.increment(changed.size());
+        return changed.size();
+    }
+
+    private void renewLease(int partition) {
+        if (!leaseRepository.renew(partition, nodeId, leaseTtlMillis)) {
+            throw new IllegalStateException("Lease of alert sweep partition " + partition + " was lost");
+        }
+    }
+
+    private static String hostName() {
+        try {
+            String host = InetAddress.getLocalHost().getHostName();
+            return host.length() > 60 ? host.substring(0, 60) : host;
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
@@ -1,19 +1,18 @@
 package com.xenon.core.service.common;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xenon.common.security.AuthenticatedPrincipal;
 import com.xenon.core.domain.exception.AuthException;
 import com.xenon.core.domain.exception.ClientException;
 import com.xenon.core.domain.model.ResponseMessage;
 import com.xenon.core.domain.response.BaseResponse;
 import com.xenon.data.entity.user.User;
+import com.xenon.data.entity.user.UserRole;
 import com.xenon.data.repository.UpazilaRepository;
 import com.xenon.data.repository.UserRepository;
 import com.xenon.presenter.config.ApplicationConfig;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.Setter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 
@@ -22,7 +21,6 @@ import java.util.regex.Pattern;
 @Setter
 public abstract class BaseService {
 
-    private static final Logger log = LoggerFactory.getLogger(BaseService.class);
     protected UserRepository userRepository;
     protected UpazilaRepository upazilaRepository;
     protected HttpServletRequest request;
@@ -51,16 +49,33 @@ public abstract class BaseService {
     protected static final Pattern PHONE_PATTERN = Pattern.compile("^01[3-9]\\d{8}$");
     protected static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
 
+    protected AuthenticatedPrincipal getCurrentPrincipal() {
+        Object principal = request.getAttribute(ApplicationConfig.PRINCIPAL_REQUEST_ATTRIBUTE_KEY);
+        if (!(principal instanceof AuthenticatedPrincipal)) throw new AuthException(ResponseMessage.AUTH_HEADER_MISSING);
+        return (AuthenticatedPrincipal) principal;
+    }
+
+    /**
+     * Returns a detached copy of the caller's user entity, so changes made by the caller are only written when
+     * it saves them. Prefer {@link #getCurrentPrincipal()} when only the identity, role or status is needed;
+     * the copy is built at most once per request and shared by every call within it.
+     */
     protected User getCurrentUser() {
-        String userJson = (String) request.getAttribute(ApplicationConfig.USER_REQUEST_ATTRIBUTE_KEY);
-        if (Objects.isNull(userJson)) throw new AuthException(ResponseMessage.AUTH_HEADER_MISSING);
-
-        try {
-            return objectMapper.readValue(userJson, User.class);
-        } catch (JsonProcessingException e) {
-            log.error(e.getMessage(), e);
-            throw new AuthException(ResponseMessage.SESSION_DATA_MISMATCH);
-        }
+        Object user = request.getAttribute(ApplicationConfig.USER_REQUEST_ATTRIBUTE_KEY);
+        if (user instanceof User) return (User) user;
+
+        User loaded = userRepository.findById(getCurrentUserId()).orElseThrow(() -> new AuthException(ResponseMessage.SESSION_DATA_MISMATCH));
+        User detached = objectMapper.convertValue(loaded, User.class);
+        request.setAttribute(ApplicationConfig.USER_REQUEST_ATTRIBUTE_KEY, detached);
+        return detached;
+    }
+
+    protected Long getCurrentUserId() {
+        return getCurrentPrincipal().getId();
+    }
+
+    protected UserRole getCurrentUserRole() {
+        return getCurrentPrincipal().getRole();
     }
 
     public  boolean isValidNumber(String number) {
@@ -83,7 +98,7 @@ public abstract class BaseService {
     }
 
     protected String getCurrentUserPhone() {
-        return getCurrentUser().getPhone();
+        return getCurrentPrincipal().getPhone();
     }
 
     protected void hasUpdate() {
@@ -92,7 +107,7 @@ public abstract class BaseService {
 
 
     protected String getCurrentUserEmail() {
-        return getCurrentUser().getEmail();
+        return getCurrentPrincipal().getEmail();
     }
 
     protected <T> void validateBody(T body) {
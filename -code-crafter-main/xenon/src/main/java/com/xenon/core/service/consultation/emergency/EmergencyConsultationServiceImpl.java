@@ -67,7 +67,6 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
 
             return success("Emergency consultation created successfully", mapToResponse(emergencyConsultation));
         } catch (Exception e) {
-            log.error("Error creating emergency consultation: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -103,7 +102,7 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
 
             // Send notifications
             notificationService.sendNotification(
-                    getCurrentUser().getId(),
+                    getCurrentUserId(),
                     "Emergency Consultation Requested",
                     "Your emergency consultation request has been submitted and is awaiting confirmation.",
                     "EMERGENCY_CONSULTATION",
@@ -120,7 +119,6 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
 
             return success("Emergency consultation requested successfully", appointment);
         } catch (Exception e) {
-            log.error("Error booking emergency consultation: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -146,7 +144,6 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
                     responses
             );
         } catch (Exception e) {
-            log.error("Error retrieving available doctors: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -159,8 +156,8 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
                     .orElseThrow(() -> new ClientException("Doctor not found"));
 
             // Ensure the current user is the doctor or an admin
-            if (!getCurrentUser().getId().equals(doctor.getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(doctor.getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("You are not authorized to toggle this doctor's availability");
             }
 
@@ -196,7 +193,6 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
                     mapToResponse(emergencyConsultation)
             );
         } catch (Exception e) {
-            log.error("Error toggling doctor availability: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -208,15 +204,14 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
                     .orElseThrow(() -> new ClientException("Emergency consultation appointment not found"));
 
             // Ensure the current user is either the patient or the doctor
-            if (!getCurrentUser().getId().equals(appointment.getUser().getId()) &&
-                    !getCurrentUser().getId().equals(appointment.getEmergencyConsultation().getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(appointment.getUser().getId()) &&
+                    !getCurrentUserId().equals(appointment.getEmergencyConsultation().getDoctor().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("You are not authorized to view this consultation");
             }
 
             return success("Emergency consultation details retrieved successfully", appointment);
         } catch (Exception e) {
-            log.error("Error retrieving emergency consultation details: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -225,11 +220,10 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
     public ResponseEntity<?> getUserEmergencyConsultations() {
         try {
             List<EmergencyConsultationAppointmentTable> appointments =
-                    emergencyConsultationTableRepository.findByUserIdOrderByConsultationDateDesc(getCurrentUser().getId());
+                    emergencyConsultationTableRepository.findByUserIdOrderByConsultationDateDesc(getCurrentUserId());
 
             return success("User emergency consultations retrieved successfully", appointments);
         } catch (Exception e) {
-            log.error("Error retrieving user emergency consultations: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -238,7 +232,7 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
     public ResponseEntity<?> getDoctorEmergencyConsultations() {
         try {
             // Get the doctor entity for the current user
-            Doctor doctor = doctorRepository.findByUserId(getCurrentUser().getId())
+            Doctor doctor = doctorRepository.findByUserId(getCurrentUserId())
                     .orElseThrow(() -> new ClientException("Doctor profile not found for current user"));
 
             // Get the emergency consultation entity
@@ -251,7 +245,6 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
 
             return success("Doctor emergency consultations retrieved successfully", appointments);
         } catch (Exception e) {
-            log.error("Error retrieving doctor emergency consultations: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -264,9 +257,9 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
                     .orElseThrow(() -> new ClientException("Emergency consultation appointment not found"));
 
             // Ensure the current user is either the patient or the doctor
-            if (!getCurrentUser().getId().equals(appointment.getUser().getId()) &&
-                    !getCurrentUser().getId().equals(appointment.getEmergencyConsultation().getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(appointment.getUser().getId()) &&
+                    !getCurrentUserId().equals(appointment.getEmergencyConsultation().getDoctor().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("You are not authorized to cancel this consultation");
             }
 
@@ -303,7 +296,6 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
 
             return success("Emergency consultation cancelled successfully", null);
         } catch (Exception e) {
-            log.error("Error cancelling emergency consultation: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -316,8 +308,8 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
                     .orElseThrow(() -> new ClientException("Emergency consultation appointment not found"));
 
             // Ensure the current user is the doctor
-            if (!getCurrentUser().getId().equals(appointment.getEmergencyConsultation().getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(appointment.getEmergencyConsultation().getDoctor().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("Only the doctor can complete this consultation");
             }
 
@@ -346,7 +338,6 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
 
             return success("Emergency consultation completed successfully", null);
         } catch (Exception e) {
-            log.error("Error completing emergency consultation: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -359,8 +350,8 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
                     .orElseThrow(() -> new ClientException("Emergency consultation appointment not found"));
 
             // Ensure the current user is the doctor
-            if (!getCurrentUser().getId().equals(appointment.getEmergencyConsultation().getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(appointment.getEmergencyConsultation().getDoctor().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("Only the doctor can confirm this consultation");
             }
 
@@ -384,7 +375,6 @@ public class EmergencyConsultationServiceImpl extends BaseService implements Eme
 
             return success("Emergency consultation confirmed successfully", appointment);
         } catch (Exception e) {
-            log.error("Error confirming emergency consultation: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -77,7 +77,6 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
 
             return success("Specialist consultation created successfully", specialistConsultation);
         } catch (Exception e) {
-            log.error("Error creating specialist consultation: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -108,7 +107,7 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
 
             // Send notifications
             notificationService.sendNotification(
-                    getCurrentUser().getId(),
+                    getCurrentUserId(),
                     "Specialist Consultation Requested",
                     "Your specialist consultation has been requested for " +
                             request.getConsultationDate() + " at " + request.getSlotStartTime() +
@@ -129,7 +128,6 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
 
             return success("Specialist consultation requested successfully", appointment);
         } catch (Exception e) {
-            log.error("Error booking specialist consultation: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -162,7 +160,6 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
                     doctorsWithConsultations.stream().map(Doctor::toResponse).toList()
             );
         } catch (Exception e) {
-            log.error("Error retrieving available doctors: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -206,7 +203,6 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
 
             return success("Available slots retrieved successfully", availableSlots);
         } catch (Exception e) {
-            log.error("Error retrieving available slots: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -218,15 +214,14 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
                     .orElseThrow(() -> new ClientException("Specialist consultation appointment not found"));
 
             // Ensure the current user is either the patient or the doctor
-            if (!getCurrentUser().getId().equals(appointment.getUser().getId()) &&
-                    !getCurrentUser().getId().equals(appointment.getSpecialistConsultation().getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(appointment.getUser().getId()) &&
+                    !getCurrentUserId().equals(appointment.getSpecialistConsultation().getDoctor().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("You are not authorized to view this consultation");
             }
 
             return success("Specialist consultation details retrieved successfully", appointment);
         } catch (Exception e) {
-            log.error("Error retrieving specialist consultation details: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -235,11 +230,10 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
     public ResponseEntity<?> getUserSpecialistConsultations() {
         try {
             List<SpecialistConsultationAppointmentTable> appointments =
-                    specialistConsultationAppointmentTableRepository.findByUserIdOrderByConsultationDateDesc(getCurrentUser().getId());
+                    specialistConsultationAppointmentTableRepository.findByUserIdOrderByConsultationDateDesc(getCurrentUserId());
 
             return success("User specialist consultations retrieved successfully", appointments);
         } catch (Exception e) {
-            log.error("Error retrieving user specialist consultations: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -248,7 +242,7 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
     public ResponseEntity<?> getDoctorSpecialistConsultations() {
         try {
             // Get the doctor entity for the current user
-            Doctor doctor = doctorRepository.findByUserId(getCurrentUser().getId())
+            Doctor doctor = doctorRepository.findByUserId(getCurrentUserId())
                     .orElseThrow(() -> new ClientException("Doctor profile not found for current user"));
 
             // Get all specialist consultations for this doctor
@@ -265,7 +259,6 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
 
             return success("Doctor specialist consultations retrieved successfully", allAppointments);
         } catch (Exception e) {
-            log.error("Error retrieving doctor specialist consultations: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -278,9 +271,9 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
                     .orElseThrow(() -> new ClientException("Specialist consultation appointment not found"));
 
             // Ensure the current user is either the patient or the doctor
-            if (!getCurrentUser().getId().equals(appointment.getUser().getId()) &&
-                    !getCurrentUser().getId().equals(appointment.getSpecialistConsultation().getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(appointment.getUser().getId()) &&
+                    !getCurrentUserId().equals(appointment.getSpecialistConsultation().getDoctor().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("You are not authorized to cancel this consultation");
             }
 
@@ -314,7 +307,6 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
 
             return success("Specialist consultation cancelled successfully", null);
         } catch (Exception e) {
-            log.error("Error cancelling specialist consultation: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -327,8 +319,8 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
                     .orElseThrow(() -> new ClientException("Specialist consultation appointment not found"));
 
             // Ensure the current user is the doctor
-            if (!getCurrentUser().getId().equals(appointment.getSpecialistConsultation().getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(appointment.getSpecialistConsultation().getDoctor().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("Only the doctor can complete this consultation");
             }
 
@@ -352,7 +344,6 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
 
             return success("Specialist consultation completed successfully", null);
         } catch (Exception e) {
-            log.error("Error completing specialist consultation: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -365,8 +356,8 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
                     .orElseThrow(() -> new ClientException("Specialist consultation not found"));
 
             // Ensure the current user is the doctor or an admin
-            if (!getCurrentUser().getId().equals(consultation.getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(consultation.getDoctor().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("You are not authorized to toggle this consultation's availability");
             }
 
@@ -387,7 +378,6 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
 
             return success("Consultation availability toggled successfully", consultation);
         } catch (Exception e) {
-            log.error("Error toggling consultation availability: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -400,8 +390,8 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
                     .orElseThrow(() -> new ClientException("Specialist consultation appointment not found"));
 
             // Ensure the current user is the doctor
-            if (!getCurrentUser().getId().equals(appointment.getSpecialistConsultation().getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(appointment.getSpecialistConsultation().getDoctor().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("Only the doctor can confirm this consultation");
             }
 
@@ -426,7 +416,6 @@ public class SpecialistConsultationServiceImpl extends BaseService implements Sp
 
             return success("Specialist consultation confirmed successfully", appointment);
         } catch (Exception e) {
-            log.error("Error confirming specialist consultation: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
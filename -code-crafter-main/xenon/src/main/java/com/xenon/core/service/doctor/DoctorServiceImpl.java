@@ -34,7 +34,6 @@ public class DoctorServiceImpl extends BaseService implements DoctorService {
             doctorRepository.save(body.toEntity(getCurrentUser()));
             return success("Doctor created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -42,12 +41,11 @@ public class DoctorServiceImpl extends BaseService implements DoctorService {
     @Override
     public ResponseEntity<?> getDoctorProfile() {
 
-        Doctor doctor = doctorRepository.findByUserId(getCurrentUser().getId()).orElseThrow(() -> new ClientException("Doctor profile not found"));
+        Doctor doctor = doctorRepository.findByUserId(getCurrentUserId()).orElseThrow(() -> new ClientException("Doctor profile not found"));
 
         try {
             return success("Doctor profile retrieved successfully", getDoctorProfile(doctor.getId()));
         } catch (Exception e) {
-            log.error("Error retrieving doctor profile: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -46,7 +46,6 @@ public class DonorServiceImpl extends BaseService implements DonorService {
             donorRepository.save(body.toEntity(getCurrentUser()));
             return success("Donor created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -56,14 +55,13 @@ public class DonorServiceImpl extends BaseService implements DonorService {
         hasUpdate();
         validateBloodGivenInfoRequest(body);
 
-        Donor donor = donorRepository.findByUserId(getCurrentUser().getId()).orElseThrow(() -> new ClientException("Donor not found"));
+        Donor donor = donorRepository.findByUserId(getCurrentUserId()).orElseThrow(() -> new ClientException("Donor not found"));
 
         try {
 
             bloodDonationHistoryRepository.save(body.toEntity(donor));
             return success("Success", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -71,15 +69,15 @@ public class DonorServiceImpl extends BaseService implements DonorService {
     @Override
     public ResponseEntity<?> getDonationHistory() {
         hasUpdate();
-        donorRepository.findByUserId(getCurrentUser().getId())
+        donorRepository.findByUserId(getCurrentUserId())
                 .orElseThrow(() -> new ClientException("Donor not found"));
-        BloodDonationHistoryMetaData metaData = bloodDonationHistoryRepository.getBloodDonationHistoryMetaData(getCurrentUser().getId());
+        BloodDonationHistoryMetaData metaData = bloodDonationHistoryRepository.getBloodDonationHistoryMetaData(getCurrentUserId());
 
         if (metaData == null) {
             return success("Donation History Fetched Successfully", new BloodDonationHistoryListResponse(0L, 0L, null, null));
         }
 
-        List<BloodDonationHistory> bloodDonationHistories = bloodDonationHistoryRepository.findAllDonationHistoryByUserId(getCurrentUser().getId());
+        List<BloodDonationHistory> bloodDonationHistories = bloodDonationHistoryRepository.findAllDonationHistoryByUserId(getCurrentUserId());
 
         return success("Donation History Fetched Successfully",
                 new BloodDonationHistoryListResponse(
@@ -95,7 +93,7 @@ public class DonorServiceImpl extends BaseService implements DonorService {
         validateUpdateDonorInterestRequest(body);
         hasUpdate();
 
-            Donor donor = donorRepository.findByUserId(getCurrentUser().getId())
+            Donor donor = donorRepository.findByUserId(getCurrentUserId())
                     .orElseThrow(() -> new ClientException("Donor not found"));
         try {
             donor.setInterested(body.getInterested());
@@ -103,7 +101,6 @@ public class DonorServiceImpl extends BaseService implements DonorService {
 
             return success("Donor interest updated successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -112,7 +109,7 @@ public class DonorServiceImpl extends BaseService implements DonorService {
     public ResponseEntity<?> getDonorProfile() {
         hasUpdate();
 
-        Donor donor = donorRepository.findByUserId(getCurrentUser().getId())
+        Donor donor = donorRepository.findByUserId(getCurrentUserId())
                 .orElseThrow(() -> new ClientException("Donor not found"));
 
         DonorProfileResponse response = new DonorProfileResponse(
@@ -128,7 +125,6 @@ public class DonorServiceImpl extends BaseService implements DonorService {
 
             return success("Donor profile retrieved successfully", response);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -167,7 +163,6 @@ public class DonorServiceImpl extends BaseService implements DonorService {
 
             return success("Available donors retrieved successfully", response);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -188,7 +183,7 @@ public class DonorServiceImpl extends BaseService implements DonorService {
         if (body.getWeight() <= 40 || body.getWeight() >= 200) throw clientException("Invalid weight");
         if (!isValidNumber(body.getAge().toString())) throw clientException("Use only number for age");
         if (!isValidNumber(body.getWeight().toString())) throw clientException("Use only number for weight");
-        if (donorRepository.existsByUserId(getCurrentUser().getId())) throw clientException("Donor already exists!");
+        if (donorRepository.existsByUserId(getCurrentUserId())) throw clientException("Donor already exists!");
     }
 
     private void validateBloodGivenInfoRequest(BloodDonationInfoRequest body) {
@@ -0,0 +1,27 @@
+package com.xenon.core.service.healthAuthorization;
+
+import com.xenon.data.entity.alert.AlertTable;
+import lombok.Getter;
+
+/**
+ * Event that is fired when a health authority creates, updates, deactivates or deletes an alert
+ */
+@Getter
+public class AlertChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DEACTIVATED, DELETED }
+
+    private final Type type;
+    private final AlertTable alert;
+    private final long publishedAt;
+
+    public AlertChangedEvent(Type type, AlertTable alert) {
+        this.type = type;
+        this.alert = alert;
+        this.publishedAt = System.nanoTime();
+    }
+
+    public Long getAlertId() {
+        return alert.getId();
+    }
+}
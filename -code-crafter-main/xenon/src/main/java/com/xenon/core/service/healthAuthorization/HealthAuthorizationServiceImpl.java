@@ -15,6 +15,7 @@ import com.xenon.data.repository.AlertTableRepository;
 import com.xenon.data.repository.HealthAuthorizationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +31,7 @@ public class HealthAuthorizationServiceImpl extends BaseService implements Healt
 
     private final HealthAuthorizationRepository healthAuthorizationRepository;
     private final AlertTableRepository alertTableRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ResponseEntity<?> createHealthAuthorizationRequest(CreateHealthAuthorizationAccountRequest body) {
@@ -39,7 +41,6 @@ public class HealthAuthorizationServiceImpl extends BaseService implements Healt
             healthAuthorizationRepository.save(body.toEntity(getCurrentUser()));
             return success("Health Authorization created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -51,16 +52,16 @@ public class HealthAuthorizationServiceImpl extends BaseService implements Healt
         ensureUserIsHealthAuthorization();
 
         HealthAuthorization healthAuthorization = healthAuthorizationRepository
-                .findByUserId(getCurrentUser().getId())
+                .findByUserId(getCurrentUserId())
                 .orElseThrow(() -> new ClientException("Health Authorization not found"));
 
         try {
             AlertTable alertTable = body.toEntity(healthAuthorization);
             alertTable = alertTableRepository.save(alertTable);
+            eventPublisher.publishEvent(new AlertChangedEvent(AlertChangedEvent.Type.CREATED, alertTable));
 
             return success("Alert created successfully", AlertResponse.fromEntity(alertTable));
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -74,7 +75,7 @@ public class HealthAuthorizationServiceImpl extends BaseService implements Healt
                 .orElseThrow(() -> new ClientException("Alert not found"));
 
         // Verify ownership
-        if (!alert.getHealthAuthorization().getUser().getId().equals(getCurrentUser().getId())) {
+        if (!alert.getHealthAuthorization().getUser().getId().equals(getCurrentUserId())) {
             throw new UnauthorizedException("You don't have permission to update this alert");
         }
 
@@ -121,10 +122,10 @@ public class HealthAuthorizationServiceImpl extends BaseService implements Healt
             }
 
             alert = alertTableRepository.save(alert);
+            eventPublisher.publishEvent(new AlertChangedEvent(AlertChangedEvent.Type.UPDATED, alert));
 
             return success("Alert updated successfully", AlertResponse.fromEntity(alert));
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -138,7 +139,7 @@ public class HealthAuthorizationServiceImpl extends BaseService implements Healt
                 .orElseThrow(() -> new ClientException("Alert not found"));
 
         // Verify ownership
-        if (!alert.getHealthAuthorization().getUser().getId().equals(getCurrentUser().getId())) {
+        if (!alert.getHealthAuthorization().getUser().getId().equals(getCurrentUserId())) {
             throw new UnauthorizedException("You don't have permission to deactivate this alert");
         }
 
@@ -146,10 +147,10 @@ public class HealthAuthorizationServiceImpl extends BaseService implements Healt
             alert.setActive(false);
             alert.setEndDate(ZonedDateTime.now());
             alertTableRepository.save(alert);
+            eventPublisher.publishEvent(new AlertChangedEvent(AlertChangedEvent.Type.DEACTIVATED, alert));
 
             return success("Alert deactivated successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -163,15 +164,15 @@ public class HealthAuthorizationServiceImpl extends BaseService implements Healt
                 .orElseThrow(() -> new ClientException("Alert not found"));
 
         // Verify ownership
-        if (!alert.getHealthAuthorization().getUser().getId().equals(getCurrentUser().getId())) {
+        if (!alert.getHealthAuthorization().getUser().getId().equals(getCurrentUserId())) {
             throw new UnauthorizedException("You don't have permission to delete this alert");
         }
 
         try {
             alertTableRepository.delete(alert);
+            eventPublisher.publishEvent(new AlertChangedEvent(AlertChangedEvent.Type.DELETED, alert));
             return success("Alert deleted successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -181,7 +182,7 @@ public class HealthAuthorizationServiceImpl extends BaseService implements Healt
 
 
         HealthAuthorization healthAuthorization = healthAuthorizationRepository
-                .findByUserId(getCurrentUser().getId())
+                .findByUserId(getCurrentUserId())
                 .orElseThrow(() -> new ClientException("Health Authorization not found"));
         try {
             List<AlertTable> alerts = alertTableRepository
@@ -193,7 +194,6 @@ public class HealthAuthorizationServiceImpl extends BaseService implements Healt
 
             return success("Alerts retrieved successfully", alertResponses);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -251,8 +251,8 @@ public class HealthAuthorizationServiceImpl extends BaseService implements Healt
     }
 
     private void ensureUserIsHealthAuthorization() {
-        if (getCurrentUser().getRole() != UserRole.HEALTH_AUTHORIZATION
-                && getCurrentUser().getRole() != UserRole.ADMIN) {
+        if (getCurrentUserRole() != UserRole.HEALTH_AUTHORIZATION
+                && getCurrentUserRole() != UserRole.ADMIN) {
             throw new UnauthorizedException("Only health authorization or admin users can perform this action");
         }
     }
@@ -38,7 +38,6 @@ public class HospitalServiceImpl extends BaseService implements HospitalService
             hospitalRepository.save(body.toEntity(getCurrentUser()));
             return success("Hospital created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -54,7 +53,6 @@ public class HospitalServiceImpl extends BaseService implements HospitalService
             hospitalBranchRepository.save(body.toEntity(hospital, upazila));
             return success("Hospital branch created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -70,7 +68,6 @@ public class HospitalServiceImpl extends BaseService implements HospitalService
             offlineDoctorAffiliationRepository.save(body.toEntity(doctor, hospitalBranch));
             return success("Affiliation created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -92,7 +89,6 @@ public class HospitalServiceImpl extends BaseService implements HospitalService
             doctorScheduleRepository.save(body.toEntity(affiliation));
             return success("Schedule created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
 
@@ -108,7 +104,6 @@ public class HospitalServiceImpl extends BaseService implements HospitalService
             offlineAppointmentTableRepository.save(body.toEntity(getCurrentUser(), doctorSchedule ));
             return success("Schedule created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
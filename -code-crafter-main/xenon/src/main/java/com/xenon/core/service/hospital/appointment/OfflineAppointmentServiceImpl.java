@@ -84,7 +84,7 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             // Send notifications
             notificationService.sendNotification(
-                    getCurrentUser().getId(),
+                    getCurrentUserId(),
                     "Offline Appointment Requested",
                     "Your offline appointment has been requested for " +
                             request.getAppointmentDate() + " at " + request.getAppointmentTime() +
@@ -121,7 +121,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             return success("Offline appointment requested successfully", appointment);
         } catch (Exception e) {
-            log.error("Error booking offline appointment: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -132,7 +131,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
             List<HospitalBranch> hospitalBranches = hospitalBranchRepository.findAll();
             return success("Hospital branches retrieved successfully", hospitalBranches);
         } catch (Exception e) {
-            log.error("Error retrieving hospital branches: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -153,7 +151,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             return success("Hospital departments retrieved successfully", specialistCategories);
         } catch (Exception e) {
-            log.error("Error retrieving hospital departments: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -180,7 +177,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             return success("Doctors by department retrieved successfully", doctors.stream().map(Doctor::toResponse).toList());
         } catch (Exception e) {
-            log.error("Error retrieving doctors by department: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -194,7 +190,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             return success("Doctor schedules retrieved successfully", schedules);
         } catch (Exception e) {
-            log.error("Error retrieving doctor schedules: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -225,7 +220,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             return success("Available slots retrieved successfully", availableSlots);
         } catch (Exception e) {
-            log.error("Error retrieving available slots: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -233,11 +227,10 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
     @Override
     public ResponseEntity<?> getUserOfflineAppointments() {
         try {
-            List<OfflineAppointmentTable> appointments = offlineAppointmentTableRepository.findByUserIdOrderByAppointmentDateDescAppointmentTimeDesc(getCurrentUser().getId());
+            List<OfflineAppointmentTable> appointments = offlineAppointmentTableRepository.findByUserIdOrderByAppointmentDateDescAppointmentTimeDesc(getCurrentUserId());
 
             return success("User offline appointments retrieved successfully", appointments);
         } catch (Exception e) {
-            log.error("Error retrieving user offline appointments: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -250,8 +243,8 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             // Ensure the current user is associated with this hospital
             Hospital hospital = hospitalBranch.getHospital();
-            if (!getCurrentUser().getId().equals(hospital.getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(hospital.getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("You are not authorized to view appointments for this hospital");
             }
 
@@ -259,7 +252,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             return success("Hospital offline appointments retrieved successfully", appointments);
         } catch (Exception e) {
-            log.error("Error retrieving hospital offline appointments: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -271,8 +263,8 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
                     .orElseThrow(() -> new ClientException("Doctor not found"));
 
             // Ensure the current user is this doctor
-            if (!getCurrentUser().getId().equals(doctor.getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(doctor.getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("You are not authorized to view appointments for this doctor");
             }
 
@@ -280,7 +272,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             return success("Doctor offline appointments retrieved successfully", appointments);
         } catch (Exception e) {
-            log.error("Error retrieving doctor offline appointments: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -293,10 +284,10 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
                     .orElseThrow(() -> new ClientException("Offline appointment not found"));
 
             // Ensure the current user is authorized to cancel this appointment
-            if (!getCurrentUser().getId().equals(appointment.getUser().getId()) &&
-                    !getCurrentUser().getId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getHospitalBranch().getHospital().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(appointment.getUser().getId()) &&
+                    !getCurrentUserId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getDoctor().getUser().getId()) &&
+                    !getCurrentUserId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getHospitalBranch().getHospital().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("You are not authorized to cancel this appointment");
             }
 
@@ -339,7 +330,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             return success("Offline appointment cancelled successfully", null);
         } catch (Exception e) {
-            log.error("Error cancelling offline appointment: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -352,9 +342,9 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
                     .orElseThrow(() -> new ClientException("Offline appointment not found"));
 
             // Ensure the current user is authorized to complete this appointment
-            if (!getCurrentUser().getId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getHospitalBranch().getHospital().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getDoctor().getUser().getId()) &&
+                    !getCurrentUserId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getHospitalBranch().getHospital().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("You are not authorized to complete this appointment");
             }
 
@@ -378,7 +368,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             return success("Offline appointment completed successfully", null);
         } catch (Exception e) {
-            log.error("Error completing offline appointment: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -391,9 +380,9 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
                     .orElseThrow(() -> new ClientException("Offline appointment not found"));
 
             // Ensure the current user is authorized to confirm this appointment
-            if (!getCurrentUser().getId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getDoctor().getUser().getId()) &&
-                    !getCurrentUser().getId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getHospitalBranch().getHospital().getUser().getId()) &&
-                    !getCurrentUser().getRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
+            if (!getCurrentUserId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getDoctor().getUser().getId()) &&
+                    !getCurrentUserId().equals(appointment.getDoctorSchedule().getOfflineDoctorAffiliation().getHospitalBranch().getHospital().getUser().getId()) &&
+                    !getCurrentUserRole().equals(com.xenon.data.entity.user.UserRole.ADMIN)) {
                 throw new ClientException("You are not authorized to confirm this appointment");
             }
 
@@ -429,7 +418,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             return success("Offline appointment confirmed successfully", appointment);
         } catch (Exception e) {
-            log.error("Error confirming offline appointment: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -466,7 +454,6 @@ public class OfflineAppointmentServiceImpl extends BaseService implements Offlin
 
             return success("Schedule created successfully", schedule);
         } catch (Exception e) {
-            log.error("Error creating doctor schedule: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -1,8 +1,11 @@
 package com.xenon.core.service.location;
 
 import com.xenon.core.domain.request.alert.UpdateUserLocationRequest;
+import com.xenon.data.entity.alert.UserLocation;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Optional;
+
 public interface LocationService {
     /**
      * Updates the user's location information
@@ -12,6 +15,14 @@ public interface LocationService {
      */
     ResponseEntity<?> updateUserLocation(UpdateUserLocationRequest request);
 
+    /**
+     * Returns the user's latest known location, including an update that has not been written to the database yet
+     *
+     * @param userId The user's id
+     * @return The location, or empty if the user never shared one
+     */
+    Optional<UserLocation> findCurrentLocation(Long userId);
+
     /**
      * Calculates the distance between two geographical points
      *
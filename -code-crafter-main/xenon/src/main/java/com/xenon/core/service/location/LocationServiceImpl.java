@@ -1,19 +1,17 @@
 package com.xenon.core.service.location;
 
+import com.xenon.common.util.GeoPoint;
 import com.xenon.core.domain.exception.ApiException;
 import com.xenon.core.domain.request.alert.UpdateUserLocationRequest;
 import com.xenon.core.service.common.BaseService;
 import com.xenon.data.entity.alert.UserLocation;
-import com.xenon.data.entity.user.User;
 import com.xenon.data.repository.UserLocationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.ZonedDateTime;
 import java.util.Optional;
 
 @Service
@@ -23,14 +21,12 @@ public class LocationServiceImpl extends BaseService implements LocationService
 
     private final UserLocationRepository userLocationRepository;
     private final ApplicationEventPublisher eventPublisher;
-
-    private static final double EARTH_RADIUS_KM = 6371.0; // Earth's radius in kilometers
+    private final LocationUpdateBuffer locationUpdateBuffer;
 
     @Override
-    @Transactional
     public ResponseEntity<?> updateUserLocation(UpdateUserLocationRequest request) {
 
-        User currentUser = getCurrentUser();
+        Long currentUserId = getCurrentUserId();
 
         // Validate request
         // ── Coordinates are required only when the user has no location saved yet ──
@@ -47,14 +43,16 @@ public class LocationServiceImpl extends BaseService implements LocationService
             }
         }
 
-        // Find existing user location or create new one
-        Optional<UserLocation> existingLocation = userLocationRepository.findByUser_Id(currentUser.getId());
-        UserLocation userLocation;
+        // Find the latest known location, including one still waiting in the write buffer
+        Optional<UserLocation> existingLocation = findCurrentLocation(currentUserId);
+        double latitude;
+        double longitude;
+        boolean locationAllowed;
 
         boolean locationChanged = false;
 
         if (existingLocation.isPresent()) {
-            userLocation = existingLocation.get();
+            UserLocation userLocation = existingLocation.get();
 
             // Check if location has significantly changed (more than 0.1 km or ~100 m)
             if (request.getLatitude() != null && request.getLongitude() != null &&
@@ -68,67 +66,49 @@ public class LocationServiceImpl extends BaseService implements LocationService
             }
 
             // Update existing location ─ only fields supplied by the client
-            if (request.getLatitude() != null) {
-                userLocation.setLatitude(request.getLatitude());
-            }
-            if (request.getLongitude() != null) {
-                userLocation.setLongitude(request.getLongitude());
-            }
+            latitude = request.getLatitude() != null ? request.getLatitude() : userLocation.getLatitude();
+            longitude = request.getLongitude() != null ? request.getLongitude() : userLocation.getLongitude();
 
             // Update location permission if provided
-            if (request.getLocationAllowed() != null) {
-                userLocation.setLocationAllowed(request.getLocationAllowed());
-            }
+            locationAllowed = request.getLocationAllowed() != null ? request.getLocationAllowed() : userLocation.isLocationAllowed();
         } else {
             // Create new location entry ─ coordinates are mandatory the first time
             if (request.getLatitude() == null || request.getLongitude() == null) {
                 throw clientException("Latitude and longitude are required");
             }
-            boolean locationAllowed = request.getLocationAllowed() != null ? request.getLocationAllowed() : true;
-            userLocation = new UserLocation(currentUser, request.getLatitude(), request.getLongitude(), locationAllowed);
+            latitude = request.getLatitude();
+            longitude = request.getLongitude();
+            locationAllowed = request.getLocationAllowed() != null ? request.getLocationAllowed() : true;
             locationChanged = true;
         }
 
-        try { // Save the location
-            userLocation.setLastUpdated(ZonedDateTime.now());
-            userLocation = userLocationRepository.save(userLocation);
+        try { // Buffer the location; it is written to the database in the next batch
+            locationUpdateBuffer.put(currentUserId, latitude, longitude, locationAllowed);
 
             // If location has changed significantly, publish an event instead of directly calling the service
-            if (locationChanged && userLocation.isLocationAllowed()) {
-                // Publish the event instead of calling the service directly
-                UserLocationChangedEvent event = new UserLocationChangedEvent(
-                        currentUser.getId(),
-                        userLocation.getLatitude(),
-                        userLocation.getLongitude()
-                );
-                eventPublisher.publishEvent(event);
+            if (locationChanged && locationAllowed) {
+                eventPublisher.publishEvent(new UserLocationChangedEvent(currentUserId, latitude, longitude));
             }
 
             return success("Location updated successfully", null);
         } catch (Exception e) {
-            log.error("Error updating user location: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
 
+    @Override
+    public Optional<UserLocation> findCurrentLocation(Long userId) {
+        LocationUpdateBuffer.PendingLocation buffered = locationUpdateBuffer.get(userId);
+        if (buffered == null) return userLocationRepository.findByUser_Id(userId);
+
+        UserLocation userLocation = new UserLocation(null, buffered.getLatitude(), buffered.getLongitude(), buffered.isLocationAllowed());
+        userLocation.setLastUpdated(buffered.getUpdatedAt());
+        return Optional.of(userLocation);
+    }
 
     @Override
     public double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        // Convert degrees to radians
-        double lat1Rad = Math.toRadians(lat1);
-        double lon1Rad = Math.toRadians(lon1);
-        double lat2Rad = Math.toRadians(lat2);
-        double lon2Rad = Math.toRadians(lon2);
-
-        // Haversine formula
-        double dlon = lon2Rad - lon1Rad;
-        double dlat = lat2Rad - lat1Rad;
-        double a = Math.pow(Math.sin(dlat / 2), 2) +
-                Math.cos(lat1Rad) * Math.cos(lat2Rad) * Math.pow(Math.sin(dlon / 2), 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        // Distance in kilometers
-        return EARTH_RADIUS_KM * c;
+        return GeoPoint.distanceKm(lat1, lon1, lat2, lon2);
     }
 
     @Override
@@ -0,0 +1,122 @@
+package com.xenon.core.service.location;
+
+import com.xenon.data.repository.UserLocationBatchRepository.LocationWrite;
+import com.xenon.data.repository.UserLocationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Last-writer-wins buffer of user locations in front of {@code user_location}. Repeated updates from the same
+ * user within the staleness window collapse into one row write, and pending entries are written out in JDBC
+ * batches. Reads of a user's current location consult the buffer first, so callers never see a location older
+ * than the last update they accepted. Rows are stamped with the time each update was accepted, and a row is
+ * only overwritten by a newer update, so flushes from several instances cannot roll a location back. Once
+ * the buffer holds {@code max-pending} users, updates from users that are not buffered yet are written
+ * straight through, so a failing database slows callers down instead of growing the buffer.
+ */
+@Slf4j
+@Component
+public class LocationUpdateBuffer {
+
+    private final Map<Long, PendingLocation> pending = new ConcurrentHashMap<>();
+    private final UserLocationRepository userLocationRepository;
+    private final long maxStalenessNanos;
+    private final int maxPending;
+    private final Counter buffered;
+    private final Counter flushed;
+    private final Counter writtenThrough;
+
+    public LocationUpdateBuffer(UserLocationRepository userLocationRepository,
+                                @Value("${location.write-buffer.max-staleness-ms:10000}") long maxStalenessMillis,
+                                @Value("${location.write-buffer.max-pending:50000}") int maxPending,
+                                MeterRegistry meterRegistry) {
+        this.userLocationRepository = userLocationRepository;
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+        this.maxPending = maxPending;
+        this.buffered = meterRegistry.counter("xenon.location.buffer.writes", "stage", "buffered");
+        this.flushed = meterRegistry.counter("xenon.location.buffer.writes", "stage", "flushed");
+        this.writtenThrough = meterRegistry.counter("xenon.location.buffer.writes", "stage", "written_through");
+        Gauge.builder("xenon.location.buffer.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    public void put(Long userId, double latitude, double longitude, boolean locationAllowed) {
+        long now = System.nanoTime();
+        if (pending.size() >= maxPending && !pending.containsKey(userId)) {
+            userLocationRepository.upsertAll(List.of(new PendingLocation(userId, latitude, longitude, locationAllowed, ZonedDateTime.now(), now)));
+            writtenThrough.increment();
+            return;
+        }
+
+        pending.compute(userId, (key, previous) -> new PendingLocation(userId, latitude, longitude, locationAllowed,
+                ZonedDateTime.now(), previous == null ? now : previous.firstBufferedAt));
+        buffered.increment();
+    }
+
+    @Nullable
+    public PendingLocation get(Long userId) {
+        return pending.get(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${location.write-buffer.flush-interval-ms:1000}")
+    public void flush() {
+        flush(pending.size() >= maxPending);
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        flush(true);
+    }
+
+    private void flush(boolean all) {
+        long now = System.nanoTime();
+        List<LocationWrite> batch = new ArrayList<>();
+        for (PendingLocation location : pending.values()) {
+            if (all || now - location.firstBufferedAt >= maxStalenessNanos) batch.add(location);
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            userLocationRepository.upsertAll(batch);
+            // Entries replaced by a newer update while flushing stay pending for the next round
+            for (LocationWrite location : batch) pending.remove(location.getUserId(), location);
+            flushed.increment(batch.size());
+        } catch (Exception e) {
+            log.error("Error flushing {} buffered locations: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    @Getter
+    public static final class PendingLocation implements LocationWrite {
+        private final Long userId;
+        private final double latitude;
+        private final double longitude;
+        private final boolean locationAllowed;
+        private final ZonedDateTime updatedAt;
+        private final long firstBufferedAt;
+
+        private PendingLocation(Long userId, double latitude, double longitude, boolean locationAllowed,
+                                ZonedDateTime updatedAt, long firstBufferedAt) {
+            this.userId = userId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.locationAllowed = locationAllowed;
+            this.updatedAt = updatedAt;
+            this.firstBufferedAt = firstBufferedAt;
+        }
+    }
+}
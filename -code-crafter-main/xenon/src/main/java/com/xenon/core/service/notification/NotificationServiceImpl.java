@@ -5,6 +5,9 @@ import com.xenon.core.domain.exception.ClientException;
 import com.xenon.core.service.common.BaseService;
 import com.xenon.data.entity.notification.Notification;
 import com.xenon.data.entity.user.User;
+import com.xenon.data.repository.NotificationReadStateRepository;
+import com.xenon.data.repository.NotificationReadStateRepository.ReadState;
+import com.xenon.data.repository.NotificationReadStateRepository.Scope;
 import com.xenon.data.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +16,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +24,7 @@ import java.util.List;
 public class NotificationServiceImpl extends BaseService implements NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationReadStateRepository readStateRepository;
 
     @Override
     public ResponseEntity<?> sendNotification(Long userId, String title, String message, String notificationType, Long relatedId) {
@@ -35,7 +40,6 @@ public class NotificationServiceImpl extends BaseService implements Notification
             
             return success("Notification sent successfully", null);
         } catch (Exception e) {
-            log.error("Error sending notification: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -43,10 +47,13 @@ public class NotificationServiceImpl extends BaseService implements Notification
     @Override
     public ResponseEntity<?> getNotifications() {
         try {
-            List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(getCurrentUser().getId());
+            Long currentUserId = getCurrentUserId();
+            ReadState readState = readStateRepository.findReadState(currentUserId, Scope.GENERAL);
+            List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(currentUserId).stream()
+                    .map(notification -> withReadWatermark(notification, readState))
+                    .collect(Collectors.toList());
             return success("Notifications retrieved successfully", notifications);
         } catch (Exception e) {
-            log.error("Error retrieving notifications: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -54,11 +61,11 @@ public class NotificationServiceImpl extends BaseService implements Notification
     @Override
     public ResponseEntity<?> getUnreadNotifications() {
         try {
-            List<Notification> notifications = notificationRepository.findByUserIdAndIsReadOrderByCreatedAtDesc(
-                    getCurrentUser().getId(), false);
+            Long currentUserId = getCurrentUserId();
+            List<Notification> notifications = notificationRepository.findUnread(
+                    currentUserId, readStateRepository.findReadState(currentUserId, Scope.GENERAL).getLastReadId());
             return success("Unread notifications retrieved successfully", notifications);
         } catch (Exception e) {
-            log.error("Error retrieving unread notifications: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -71,7 +78,7 @@ public class NotificationServiceImpl extends BaseService implements Notification
                     .orElseThrow(() -> new ClientException("Notification not found"));
             
             // Ensure the notification belongs to the current user
-            if (!notification.getUser().getId().equals(getCurrentUser().getId())) {
+            if (!notification.getUser().getId().equals(getCurrentUserId())) {
                 throw new ClientException("You do not have permission to access this notification");
             }
             
@@ -80,7 +87,6 @@ public class NotificationServiceImpl extends BaseService implements Notification
             
             return success("Notification marked as read", null);
         } catch (Exception e) {
-            log.error("Error marking notification as read: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -89,19 +95,25 @@ public class NotificationServiceImpl extends BaseService implements Notification
     @Transactional
     public ResponseEntity<?> markAllAsRead() {
         try {
-            List<Notification> unreadNotifications = notificationRepository.findByUserIdAndIsReadOrderByCreatedAtDesc(
-                    getCurrentUser().getId(), false);
-            
-            for (Notification notification : unreadNotifications) {
-                notification.setIsRead(true);
-            }
-            
-            notificationRepository.saveAll(unreadNotifications);
-            
+            // Marks only the notifications committed by now; ones still being written stay unread
+            readStateRepository.markAllRead(getCurrentUserId(), Scope.GENERAL);
+
             return success("All notifications marked as read", null);
         } catch (Exception e) {
-            log.error("Error marking all notifications as read: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
+
+    /**
+     * Returns a detached copy showing the notification as read when it is covered by the read watermark,
+     * leaving the managed entity untouched.
+     */
+    private static Notification withReadWatermark(Notification notification, ReadState readState) {
+        if (Boolean.TRUE.equals(notification.getIsRead()) || !readState.covers(notification.getId())) {
+            return notification;
+        }
+        return new Notification(notification.getId(), notification.getUser(), notification.getTitle(),
+                notification.getMessage(), true, notification.getNotificationType(), notification.getRelatedId(),
+                notification.getCreatedAt());
+    }
 }
\ No newline at end of file
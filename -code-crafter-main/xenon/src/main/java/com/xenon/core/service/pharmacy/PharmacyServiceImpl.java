@@ -38,7 +38,6 @@ public class PharmacyServiceImpl extends BaseService implements PharmacyService
 
             return success("Pharmacy created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -53,7 +52,6 @@ public class PharmacyServiceImpl extends BaseService implements PharmacyService
 
             return success("Pharmacy retrieved successfully", response);
         } catch (Exception e) {
-            log.error("Error retrieving pharmacy: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -66,7 +64,6 @@ public class PharmacyServiceImpl extends BaseService implements PharmacyService
             // Map to response objects
             return getResponseEntity(pharmacies);
         } catch (Exception e) {
-            log.error("Error retrieving all pharmacies: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -94,7 +91,6 @@ public class PharmacyServiceImpl extends BaseService implements PharmacyService
             // Map to response objects
             return getResponseEntity(pharmacies);
         } catch (Exception e) {
-            log.error("Error searching pharmacies: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -118,7 +114,6 @@ public class PharmacyServiceImpl extends BaseService implements PharmacyService
 
             return success("Pharmacies by upazila retrieved successfully", response);
         } catch (Exception e) {
-            log.error("Error retrieving pharmacies by upazila: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -47,7 +47,6 @@ public class ScheduleConflictServiceImpl extends BaseService implements Schedule
 
             return success("No schedule conflicts found", null);
         }  catch (Exception e) {
-            log.error("Error checking specialist schedule conflict: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }*//*
@@ -74,7 +73,6 @@ public class ScheduleConflictServiceImpl extends BaseService implements Schedule
 
             return success("No schedule conflicts found", null);
         } catch (Exception e) {
-            log.error("Error checking offline schedule conflict: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -98,7 +96,6 @@ public class ScheduleConflictServiceImpl extends BaseService implements Schedule
 
             return success("All specialist consultations disabled for emergency consultation", null);
         } catch (Exception e) {
-            log.error("Error disabling specialist consultations: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -121,7 +118,6 @@ public class ScheduleConflictServiceImpl extends BaseService implements Schedule
 
             return success("Emergency consultation disabled for specialist consultation", null);
         } catch (Exception e) {
-            log.error("Error disabling emergency consultation: {}", e.getMessage(), e);
             throw new ApiException(e);
         }
     }*//*
@@ -1,5 +1,6 @@
 package com.xenon.core.service.user;
 
+import com.xenon.common.security.UserSnapshotCache;
 import com.xenon.core.domain.exception.ApiException;
 import com.xenon.core.domain.exception.ClientException;
 import com.xenon.core.domain.request.user.CreateAccountRequest;
@@ -27,17 +28,18 @@ public class UserServiceImpl extends BaseService implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final DoctorScheduleRepository offlineDoctorScheduleRepository;
     private final OfflineAppointmentTableRepository offlineAppointmentTableRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Override
     public ResponseEntity<?> createAccount(CreateAccountRequest body, UserRole role) {
         if (role == null) throw requiredField("role");
         validateCreateAccountRequest(body);
+        User user = body.toEntity(passwordEncoder, role);
 
         try {
-            userRepository.save(body.toEntity(passwordEncoder, role));
+            userRepository.save(user);
             return success("Account created successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -57,9 +59,9 @@ public class UserServiceImpl extends BaseService implements UserService {
         user.setUpazila(upazila);
         try {
             userRepository.save(user);
+            userSnapshotCache.evict(user.getPhone());
             return success("Account updated successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -81,7 +83,6 @@ public class UserServiceImpl extends BaseService implements UserService {
             userRepository.save(user);
             return success("Location updated successfully", null);
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
             throw new ApiException(e);
         }
     }
@@ -108,7 +109,7 @@ public class UserServiceImpl extends BaseService implements UserService {
         if (isNullOrBlank(body.getLastName())) throw requiredField("Last name");
         if (isNullOrBlank(body.getEmail())) throw requiredField("Email");
         if (!EMAIL_PATTERN.matcher(body.getEmail()).matches()) throw clientException("Invalid email");
-        if (!Objects.equals(userRepository.findById(getCurrentUser().getId()).map(User::getEmail).orElse(null), body.getEmail()) && userRepository.existsByEmail(body.getEmail()))
+        if (!Objects.equals(userRepository.findById(getCurrentUserId()).map(User::getEmail).orElse(null), body.getEmail()) && userRepository.existsByEmail(body.getEmail()))
             throw clientException("Email already exists!");
         if (isNullOrBlank(String.valueOf(body.getUpazilaId()))) throw requiredField("Location selection");
         if (isNullOrBlank(String.valueOf(body.getGender()))) throw requiredField("Gender ");
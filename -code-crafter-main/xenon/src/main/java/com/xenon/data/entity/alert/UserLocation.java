@@ -34,6 +34,10 @@ public class UserLocation {
     
     @Column(name = "last_updated", nullable = false)
     private ZonedDateTime lastUpdated;
+
+    // Database time of the last write, set by a trigger
+    @Column(name = "written_at", insertable = false, updatable = false)
+    private ZonedDateTime writtenAt;
     
     @PrePersist
     @PreUpdate
@@ -0,0 +1,49 @@
+package com.xenon.data.entity.auth;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+@Entity
+@Table(name = "revoked_token")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_id", length = 64, unique = true)
+    private String tokenId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(length = 50)
+    private String reason;
+
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private ZonedDateTime revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private ZonedDateTime expiresAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (revokedAt == null) {
+            revokedAt = ZonedDateTime.now();
+        }
+    }
+
+    public RevokedToken(String tokenId, Long userId, String reason, ZonedDateTime expiresAt) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.reason = reason;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -1,18 +1,23 @@
 package com.xenon.data.entity.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xenon.common.security.UserSnapshotCacheListener;
 import com.xenon.core.domain.response.user.UserResponse;
 import com.xenon.data.entity.location.Upazila;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
 
 import java.time.ZonedDateTime;
 
 @Entity
 @Table(name = "TABLE_USER")
+@EntityListeners(UserSnapshotCacheListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -61,6 +66,15 @@ public class User {
     @Column
     private Gender gender;
 
+    // Bumped when the password, role or status changes, which invalidates the access tokens issued before
+    @Column(name = "profile_version", nullable = false)
+    private Long profileVersion = 0L;
+
+    // Password, role and status as loaded, to tell security changes from other profile edits
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient String loadedSecurityState;
+
     @Column(name = "created_at", updatable = false)
     private ZonedDateTime createdAt;
 
@@ -73,9 +87,23 @@ public class User {
         updatedAt = ZonedDateTime.now();
     }
 
+    @PostLoad
+    protected void onLoad() {
+        loadedSecurityState = securityState();
+    }
+
     @PreUpdate
     protected void onUpdate() {
         updatedAt = ZonedDateTime.now();
+        String securityState = securityState();
+        if (!securityState.equals(loadedSecurityState)) {
+            profileVersion = profileVersion == null ? 1L : profileVersion + 1;
+            loadedSecurityState = securityState;
+        }
+    }
+
+    private String securityState() {
+        return password + "|" + role + "|" + status;
     }
 
     public User(String phone, String password, UserRole role) {
@@ -0,0 +1,117 @@
+package com.xenon.data.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lease bookkeeping for the partitioned alert sweep. Lease expiry is always evaluated against the database
+ * clock so nodes with skewed clocks still agree on who owns a partition.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlertSweepLeaseRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void ensurePartitions(int partitions) {
+        jdbcTemplate.update("""
+                INSERT INTO alert_sweep_partition (partition_id)
+                SELECT generate_series(0, ? - 1)
+                ON CONFLICT (partition_id) DO NOTHING
+                """, partitions);
+    }
+
+    /**
+     * Records a heartbeat for the node and returns how many nodes heartbeated within the TTL, itself included.
+     */
+    public int heartbeat(String nodeId, long nodeTtlMillis) {
+        jdbcTemplate.update("""
+                INSERT INTO alert_sweep_node (node_id, heartbeat_at) VALUES (?, now())
+                ON CONFLICT (node_id) DO UPDATE SET heartbeat_at = now()
+                """, nodeId);
+        Integer live = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM alert_sweep_node WHERE heartbeat_at > now() - ? * interval '1 millisecond'",
+                Integer.class, nodeTtlMillis);
+        return live == null ? 1 : Math.max(1, live);
+    }
+
+    public void deleteStaleNodes(long staleAfterMillis) {
+        jdbcTemplate.update("DELETE FROM alert_sweep_node WHERE heartbeat_at < now() - ? * interval '1 millisecond'",
+                staleAfterMillis);
+    }
+
+    /**
+     * Claims the most overdue partition that is not leased by a live node, skipping rows another node is
+     * claiming at the same moment.
+     */
+    public Optional<Lease> claimDuePartition(String nodeId, int partitions, long leaseTtlMillis) {
+        List<Lease> claimed = jdbcTemplate.query("""
+                UPDATE alert_sweep_partition
+                SET owner_id = ?, lease_until = now() + ? * interval '1 millisecond'
+                WHERE partition_id = (
+                    SELECT partition_id FROM alert_sweep_partition
+                    WHERE partition_id < ?
+                    AND next_due_at <= now()
+                    AND (lease_until IS NULL OR lease_until < now())
+                    ORDER BY next_due_at
+                    LIMIT 1
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING partition_id, watermark
+                """, (rs, rowNum) -> {
+            Timestamp watermark = rs.getTimestamp("watermark");
+            return new Lease(rs.getInt("partition_id"),
+                    watermark == null ? null : watermark.toInstant().atZone(ZoneId.systemDefault()));
+        }, nodeId, leaseTtlMillis, partitions);
+        return claimed.stream().findFirst();
+    }
+
+    /**
+     * Current database time, so watermarks and due times use the same clock as the leases.
+     */
+    public ZonedDateTime now() {
+        Timestamp now = jdbcTemplate.queryForObject("SELECT now()", Timestamp.class);
+        return now.toInstant().atZone(ZoneId.systemDefault());
+    }
+
+    /**
+     * Extends the node's lease on the partition. Returns false when the node no longer owns it.
+     */
+    public boolean renew(int partitionId, String nodeId, long leaseTtlMillis) {
+        return jdbcTemplate.update("""
+                UPDATE alert_sweep_partition SET lease_until = now() + ? * interval '1 millisecond'
+                WHERE partition_id = ? AND owner_id = ?
+                """, leaseTtlMillis, partitionId, nodeId) == 1;
+    }
+
+    public void complete(int partitionId, String nodeId, ZonedDateTime watermark, ZonedDateTime nextDueAt) {
+        jdbcTemplate.update("""
+                UPDATE alert_sweep_partition
+                SET watermark = ?, next_due_at = ?, owner_id = NULL, lease_until = NULL
+                WHERE partition_id = ? AND owner_id = ?
+                """, Timestamp.from(watermark.toInstant()), Timestamp.from(nextDueAt.toInstant()), partitionId, nodeId);
+    }
+
+    public void release(int partitionId, String nodeId) {
+        jdbcTemplate.update("""
+                UPDATE alert_sweep_partition SET owner_id = NULL, lease_until = NULL
+                WHERE partition_id = ? AND owner_id = ?
+                """, partitionId, nodeId);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Lease {
+        private final int partitionId;
+        private final ZonedDateTime watermark;
+    }
+}
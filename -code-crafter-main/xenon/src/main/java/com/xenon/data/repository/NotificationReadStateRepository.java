@@ -0,0 +1,76 @@
+package com.xenon.data.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Per-user read watermarks. A notification counts as read when its id is at or below the watermark of its
+ * scope, or when it was marked read individually. Watermarks are no longer advanced: ids and creation times
+ * are both assigned before a row commits, so no watermark can tell a notification the user has seen from one
+ * that commits later with a lower id. Marking everything as read therefore marks the unread rows above the
+ * watermark that are visible at that point, and rows committed afterwards stay unread.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationReadStateRepository {
+
+    public enum Scope {
+        ALERT("user_alert_notification", "is_read = TRUE, read_at = now()"),
+        GENERAL("notification", "is_read = TRUE");
+
+        private final String table;
+        private final String markRead;
+
+        Scope(String table, String markRead) {
+            this.table = table;
+            this.markRead = markRead;
+        }
+    }
+
+    /**
+     * Watermark of a user who never marked everything as read.
+     */
+    public static final ReadState NEVER_READ = new ReadState(0L, Instant.EPOCH.atZone(ZoneId.systemDefault()));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReadState findReadState(Long userId, Scope scope) {
+        List<ReadState> states = jdbcTemplate.query(
+                "SELECT last_read_id, last_read_at FROM notification_read_state WHERE user_id = ? AND scope = ?",
+                (rs, rowNum) -> new ReadState(rs.getLong("last_read_id"),
+                        rs.getTimestamp("last_read_at").toInstant().atZone(ZoneId.systemDefault())),
+                userId, scope.name());
+        return states.isEmpty() ? NEVER_READ : states.get(0);
+    }
+
+    /**
+     * Marks the user's unread notifications of the scope above the watermark as read, using the partial unread
+     * index. Only rows committed when the statement starts are marked. Returns how many rows were marked.
+     */
+    public int markAllRead(Long userId, Scope scope) {
+        return jdbcTemplate.update("""
+                UPDATE %s SET %s
+                WHERE user_id = ? AND is_read = FALSE
+                AND id > COALESCE((SELECT last_read_id FROM notification_read_state WHERE user_id = ? AND scope = ?), 0)
+                """.formatted(scope.table, scope.markRead), userId, userId, scope.name());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ReadState {
+        private final long lastReadId;
+        private final ZonedDateTime lastReadAt;
+
+        public boolean covers(Long notificationId) {
+            return notificationId != null && notificationId <= lastReadId;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.xenon.data.repository;
 
 import com.xenon.data.entity.notification.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,7 +13,11 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
     
-    List<Notification> findByUserIdAndIsReadOrderByCreatedAtDesc(Long userId, Boolean isRead);
+    /**
+     * Notifications above the user's read watermark and not marked read individually.
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isRead = false AND n.id > :lastReadId ORDER BY n.id DESC")
+    List<Notification> findUnread(@Param("userId") Long userId, @Param("lastReadId") long lastReadId);
     
     List<Notification> findByNotificationTypeAndRelatedId(String notificationType, Long relatedId);
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.xenon.data.repository;
+
+import com.xenon.data.entity.auth.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    boolean existsByTokenId(String tokenId);
+
+    // Unexpired entries, used to build the in-memory filter
+    List<RevokedToken> findByExpiresAtAfter(ZonedDateTime now);
+
+    // Unexpired entries revoked after the given time, used to sync the in-memory filter
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(ZonedDateTime revokedAfter, ZonedDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") ZonedDateTime now);
+}
@@ -0,0 +1,36 @@
+package com.xenon.data.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based writes for {@code user_alert_notification} that bypass the persistence context.
+ */
+public interface UserAlertNotificationBatchRepository {
+
+    /**
+     * Inserts one unread notification per alert for the user and returns the rows that were actually created.
+     * Rows that already exist for a (user, alert) pair are skipped by the unique constraint, so concurrent
+     * callers cannot duplicate them.
+     */
+    List<CreatedNotification> insertIfAbsent(Long userId, Collection<Long> alertIds);
+
+    /**
+     * Inserts one unread notification per user for the alert, skipping users that already have one, and returns
+     * the rows that were actually created.
+     */
+    List<CreatedNotification> insertForUsersIfAbsent(Long alertId, Collection<Long> userIds);
+
+    @Getter
+    @AllArgsConstructor
+    class CreatedNotification {
+        private final Long id;
+        private final Long userId;
+        private final Long alertId;
+        private final ZonedDateTime createdAt;
+    }
+}
@@ -0,0 +1,77 @@
+package com.xenon.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UserAlertNotificationBatchRepositoryImpl implements UserAlertNotificationBatchRepository {
+
+    private static final int CHUNK_SIZE = 500;
+    // Claims the (user, alert) keys first; only keys that were not taken yet get a notification row
+    private static final String INSERT_SQL = """
+            WITH new_keys AS (
+                INSERT INTO user_alert_notification_key (user_id, alert_id)
+                SELECT t.user_id, t.alert_id
+                FROM unnest(?::bigint[], ?::bigint[]) AS t(user_id, alert_id)
+                ON CONFLICT (user_id, alert_id) DO NOTHING
+                RETURNING user_id, alert_id
+            )
+            INSERT INTO user_alert_notification (user_id, alert_id, is_read, created_at, read_at)
+            SELECT k.user_id, k.alert_id, FALSE, ?, NULL
+            FROM new_keys k
+            RETURNING id, user_id, alert_id, created_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<CreatedNotification> insertIfAbsent(Long userId, Collection<Long> alertIds) {
+        List<Long> ids = new ArrayList<>(alertIds);
+        return insert(Collections.nCopies(ids.size(), userId), ids);
+    }
+
+    @Override
+    public List<CreatedNotification> insertForUsersIfAbsent(Long alertId, Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        return insert(ids, Collections.nCopies(ids.size(), alertId));
+    }
+
+    // One multi-row statement per chunk; RETURNING reports only the rows that did not already exist
+    private List<CreatedNotification> insert(List<Long> userIds, List<Long> alertIds) {
+        if (userIds.isEmpty()) return List.of();
+
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        List<CreatedNotification> created = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, userIds.size());
+            Long[] users = userIds.subList(from, to).toArray(new Long[0]);
+            Long[] alerts = alertIds.subList(from, to).toArray(new Long[0]);
+
+            created.addAll(jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_SQL);
+                Array userArray = connection.createArrayOf("bigint", users);
+                Array alertArray = connection.createArrayOf("bigint", alerts);
+                ps.setArray(1, userArray);
+                ps.setArray(2, alertArray);
+                ps.setTimestamp(3, createdAt);
+                return ps;
+            }, (rs, rowNum) -> new CreatedNotification(
+                    rs.getLong("id"),
+                    rs.getLong("user_id"),
+                    rs.getLong("alert_id"),
+                    rs.getTimestamp("created_at").toInstant().atZone(ZoneId.systemDefault())
+            )));
+        }
+        return created;
+    }
+}
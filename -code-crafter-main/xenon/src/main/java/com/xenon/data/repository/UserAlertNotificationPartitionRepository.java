@@ -0,0 +1,115 @@
+package com.xenon.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Maintenance of the monthly partitions of {@code user_alert_notification}. Partitions are named
+ * {@code user_alert_notification_pYYYYMM} after the month they hold; rows of months without a partition land
+ * in {@code user_alert_notification_default} until their partition is created.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserAlertNotificationPartitionRepository {
+
+    private static final String PARTITION_PREFIX = "user_alert_notification_p";
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    // Distinct from the key create_user_alert_notification_partition locks on, which the maintenance run takes too
+    private static final String MAINTENANCE_LOCK = "user_alert_notification_maintenance";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Runs the task while holding a session advisory lock on a connection of its own, so only one node
+     * maintains the partitions at a time. Returns false without running the task when another node holds the
+     * lock. The lock goes away with the session if the node dies mid-run.
+     */
+    public boolean runExclusively(Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!queryBoolean(connection, "SELECT pg_try_advisory_lock(hashtext(?))")) return false;
+            try {
+                task.run();
+                return true;
+            } finally {
+                queryBoolean(connection, "SELECT pg_advisory_unlock(hashtext(?))");
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.queryForList("SELECT create_user_alert_notification_partition(?)", Object.class,
+                Date.valueOf(month.atDay(1)));
+    }
+
+    /**
+     * Months that have rows in the default partition, i.e. months whose partition was missing when they were
+     * inserted.
+     */
+    public List<YearMonth> findDefaultPartitionMonths() {
+        return jdbcTemplate.queryForList(
+                        "SELECT DISTINCT date_trunc('month', created_at)::DATE FROM user_alert_notification_default",
+                        Date.class).stream()
+                .map(month -> YearMonth.from(month.toLocalDate()))
+                .sorted()
+                .toList();
+    }
+
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList("""
+                        SELECT child.relname
+                        FROM pg_inherits i
+                        JOIN pg_class parent ON parent.oid = i.inhparent
+                        JOIN pg_class child ON child.oid = i.inhrelid
+                        WHERE parent.relname = 'user_alert_notification'
+                        AND child.relname LIKE 'user_alert\\_notification\\_p%'
+                        """, String.class).stream()
+                .map(name -> YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_MONTH))
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Drops the partition of a month with all its notifications. Unlike a DELETE this leaves no dead rows
+     * behind and takes constant time.
+     */
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + PARTITION_PREFIX + month.format(PARTITION_MONTH));
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, MAINTENANCE_LOCK);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * Forgets which users were notified of alerts that ended before {@code endedBefore}, so the key table
+     * only grows with alerts that can still notify.
+     */
+    public int deleteKeysOfAlertsEndedBefore(ZonedDateTime endedBefore) {
+        return jdbcTemplate.update("""
+                DELETE FROM user_alert_notification_key k
+                USING alert_table a
+                WHERE a.id = k.alert_id
+                AND a.is_active = FALSE
+                AND a.end_date < ?
+                """, Timestamp.from(endedBefore.toInstant()));
+    }
+}
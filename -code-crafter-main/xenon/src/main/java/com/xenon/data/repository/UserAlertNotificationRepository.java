@@ -8,23 +8,36 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface UserAlertNotificationRepository extends JpaRepository<UserAlertNotification, Long> {
+public interface UserAlertNotificationRepository extends JpaRepository<UserAlertNotification, Long>, UserAlertNotificationBatchRepository {
     
     List<UserAlertNotification> findByUser_IdOrderByCreatedAtDesc(Long userId);
     
     Page<UserAlertNotification> findByUser_IdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+    // Bounded on created_at so only partitions inside the retention window are scanned
+    Page<UserAlertNotification> findByUser_IdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+            Long userId, ZonedDateTime createdSince, Pageable pageable);
     
-    List<UserAlertNotification> findByUser_IdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
-    
-    long countByUser_IdAndIsReadFalse(Long userId);
+    /**
+     * Notifications above the user's read watermark and not marked read individually. Bounded on created_at
+     * so only partitions inside the retention window are scanned.
+     */
+    @Query("SELECT n FROM UserAlertNotification n WHERE n.user.id = :userId AND n.isRead = false AND n.id > :lastReadId AND n.createdAt >= :createdSince ORDER BY n.id DESC")
+    List<UserAlertNotification> findUnread(@Param("userId") Long userId, @Param("lastReadId") long lastReadId, @Param("createdSince") ZonedDateTime createdSince);
     
     Optional<UserAlertNotification> findByUser_IdAndAlert_Id(Long userId, Long alertId);
     
     boolean existsByUser_IdAndAlert_Id(Long userId, Long alertId);
+
+    @Query(value = "SELECT alert_id FROM user_alert_notification_key WHERE user_id = :userId AND alert_id IN (:alertIds)", nativeQuery = true)
+    Set<Long> findNotifiedAlertIds(@Param("userId") Long userId, @Param("alertIds") Collection<Long> alertIds);
     
     @Query("SELECT n FROM UserAlertNotification n WHERE n.user.id = :userId AND n.alert.id = :alertId")
     Optional<UserAlertNotification> findExistingNotification(
@@ -0,0 +1,28 @@
+package com.xenon.data.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+
+/**
+ * Set-based writes for {@code user_location} that bypass the persistence context.
+ */
+public interface UserLocationBatchRepository {
+
+    /**
+     * Inserts or overwrites the location of each user in a single JDBC batch. A stored location that was
+     * updated later than the written one is kept, so writes from several instances may arrive in any order.
+     */
+    void upsertAll(Collection<LocationWrite> locations);
+
+    interface LocationWrite {
+        Long getUserId();
+
+        double getLatitude();
+
+        double getLongitude();
+
+        boolean isLocationAllowed();
+
+        ZonedDateTime getUpdatedAt();
+    }
+}
@@ -0,0 +1,39 @@
+package com.xenon.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class UserLocationBatchRepositoryImpl implements UserLocationBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String UPSERT_SQL = """
+            INSERT INTO user_location (user_id, latitude, longitude, location_allowed, last_updated)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (user_id) DO UPDATE SET
+                latitude = EXCLUDED.latitude,
+                longitude = EXCLUDED.longitude,
+                location_allowed = EXCLUDED.location_allowed,
+                last_updated = EXCLUDED.last_updated
+            WHERE user_location.last_updated IS NULL OR user_location.last_updated <= EXCLUDED.last_updated
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(Collection<LocationWrite> locations) {
+        if (locations.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new ArrayList<>(locations), BATCH_SIZE, (ps, location) -> {
+            ps.setLong(1, location.getUserId());
+            ps.setDouble(2, location.getLatitude());
+            ps.setDouble(3, location.getLongitude());
+            ps.setBoolean(4, location.isLocationAllowed());
+            ps.setTimestamp(5, Timestamp.from(location.getUpdatedAt().toInstant()));
+        });
+    }
+}
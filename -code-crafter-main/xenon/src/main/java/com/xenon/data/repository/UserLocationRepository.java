@@ -1,6 +1,8 @@
 package com.xenon.data.repository;
 
+import com.xenon.common.util.GeoBoundingBox;
 import com.xenon.data.entity.alert.UserLocation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,7 +13,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserLocationRepository extends JpaRepository<UserLocation, Long> {
+public interface UserLocationRepository extends JpaRepository<UserLocation, Long>, UserLocationBatchRepository {
     
     Optional<UserLocation> findByUser_Id(Long userId);
     
@@ -21,18 +23,64 @@ public interface UserLocationRepository extends JpaRepository<UserLocation, Long
     @Query("SELECT ul FROM UserLocation ul WHERE ul.locationAllowed = true AND ul.lastUpdated >= :timeThreshold")
     List<UserLocation> findActiveUserLocations(@Param("timeThreshold") ZonedDateTime timeThreshold);
     
-    // Find users within a specific radius of a point
+    // Ids of location-sharing users within a radius of a point, for alert fan-out
+    default List<Long> findUserIdsWithinRadius(double latitude, double longitude, double radius) {
+        return findUserIdsWithinRadius(latitude, longitude, radius, 0, 1);
+    }
+
+    // Same, restricted to the users of one user-id partition
+    default List<Long> findUserIdsWithinRadius(double latitude, double longitude, double radius, int partition, int partitions) {
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radius);
+        return findUserIdsWithinBox(latitude, longitude, radius,
+                box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude(), partition, partitions);
+    }
+
     @Query(value = """
-            SELECT ul FROM UserLocation ul 
-            WHERE ul.locationAllowed = true 
-            AND (6371 * acos(cos(radians(:latitude)) * cos(radians(ul.latitude)) 
-                 * cos(radians(ul.longitude) - radians(:longitude)) 
-                 + sin(radians(:latitude)) * sin(radians(ul.latitude)))) <= :radius
+            SELECT ul.user.id FROM UserLocation ul
+            WHERE ul.locationAllowed = true
+            AND ul.latitude BETWEEN :minLatitude AND :maxLatitude
+            AND ul.longitude BETWEEN :minLongitude AND :maxLongitude
+            AND mod(ul.user.id, :partitions) = :partition
+            AND 2 * 6371 * asin(least(1, sqrt(power(sin(radians(ul.latitude - :latitude) / 2), 2)
+                 + cos(radians(:latitude)) * cos(radians(ul.latitude)) * power(sin(radians(ul.longitude - :longitude) / 2), 2)))) <= :radius
             """)
-    List<UserLocation> findUsersWithinRadius(
-            @Param("latitude") double latitude, 
-            @Param("longitude") double longitude, 
-            @Param("radius") double radius);
-    
+    List<Long> findUserIdsWithinBox(
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("radius") double radius,
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude,
+            @Param("partition") int partition,
+            @Param("partitions") int partitions);
+
+    // Location-sharing users of one user-id partition written after a (written_at, id) position, one keyset page at a time
+    @Query("""
+            SELECT ul.id AS id, ul.user.id AS userId, ul.latitude AS latitude, ul.longitude AS longitude, ul.writtenAt AS writtenAt
+            FROM UserLocation ul
+            WHERE ul.locationAllowed = true AND (ul.writtenAt, ul.id) > (:afterWritten, :afterId)
+            AND mod(ul.user.id, :partitions) = :partition
+            ORDER BY ul.writtenAt, ul.id
+            """)
+    List<LocationPoint> findLocationsWrittenAfter(
+            @Param("afterWritten") ZonedDateTime afterWritten,
+            @Param("afterId") Long afterId,
+            @Param("partition") int partition,
+            @Param("partitions") int partitions,
+            Pageable pageable);
+
     boolean existsByUser_Id(Long userId);
+
+    interface LocationPoint {
+        Long getId();
+
+        Long getUserId();
+
+        Double getLatitude();
+
+        Double getLongitude();
+
+        ZonedDateTime getWrittenAt();
+    }
 }
\ No newline at end of file
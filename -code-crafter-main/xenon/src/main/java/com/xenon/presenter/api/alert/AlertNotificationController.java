@@ -10,8 +10,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("api/v1/alert")
@@ -49,6 +51,15 @@ public class AlertNotificationController {
         return alertNotificationService.getUnreadAlertNotifications();
     }
     
+    @GetMapping(value = "notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize(shouldCheckAccountStatus = true)
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Stream Notifications",
+               description = "Opens a Server-Sent Events stream that pushes new alert notifications as they are created")
+    public SseEmitter streamNotifications() {
+        return alertNotificationService.streamAlertNotifications();
+    }
+    
     @PutMapping("notifications/{notificationId}/read")
     @PreAuthorize(shouldCheckAccountStatus = true)
     @SecurityRequirement(name = "bearerAuth")
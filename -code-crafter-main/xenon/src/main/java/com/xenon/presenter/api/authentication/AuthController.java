@@ -1,8 +1,11 @@
 package com.xenon.presenter.api.authentication;
 
+import com.xenon.common.annotation.PreAuthorize;
 import com.xenon.core.domain.request.auth.LoginRequest;
+import com.xenon.core.domain.request.auth.RefreshTokenRequest;
 import com.xenon.core.service.auth.AuthenticationService;
 import com.xenon.presenter.config.SecurityConfiguration;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
@@ -20,4 +23,23 @@ public class AuthController {
     public ResponseEntity<?> login(@Nullable @RequestBody LoginRequest body) {
         return authenticationService.login(body);
     }
+
+    @PostMapping("refresh")
+    public ResponseEntity<?> refresh(@Nullable @RequestBody RefreshTokenRequest body) {
+        return authenticationService.refresh(body);
+    }
+
+    @PostMapping("logout")
+    @PreAuthorize
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<?> logout(@Nullable @RequestBody(required = false) RefreshTokenRequest body) {
+        return authenticationService.logout(body);
+    }
+
+    @PostMapping("logout-all")
+    @PreAuthorize
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<?> logoutAll() {
+        return authenticationService.logoutAll();
+    }
 }
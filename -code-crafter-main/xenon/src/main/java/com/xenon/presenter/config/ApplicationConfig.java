@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Primary;
 
 public class ApplicationConfig {
     public static final String USER_REQUEST_ATTRIBUTE_KEY = "USER-REQUEST-ATTRIBUTE";
+    public static final String PRINCIPAL_REQUEST_ATTRIBUTE_KEY = "PRINCIPAL-REQUEST-ATTRIBUTE";
 
     @Bean
     @Primary
@@ -1,36 +1,25 @@
 package com.xenon.presenter.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
-import java.util.concurrent.Executor;
-
 @Configuration
 @EnableScheduling
-@EnableAsync
 public class SchedulingConfig {
 
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("AlertAsync-");
-        executor.initialize();
-        return executor;
-    }
-    
+    /**
+     * One thread per scheduled job by default, so a long run such as the alert sweep or the partition
+     * maintenance never delays the short periodic jobs like the location flush or the expiry tick.
+     */
     @Bean
-    public ThreadPoolTaskScheduler taskScheduler() {
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:12}") int poolSize) {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(5);
+        scheduler.setPoolSize(poolSize);
         scheduler.setThreadNamePrefix("AlertScheduler-");
         scheduler.initialize();
         return scheduler;
     }
-}
\ No newline at end of file
+}
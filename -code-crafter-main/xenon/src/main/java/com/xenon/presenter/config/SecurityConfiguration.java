@@ -1,5 +1,7 @@
 package com.xenon.presenter.config;
 
+import com.xenon.common.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,15 +15,25 @@ public class SecurityConfiguration {
     @Value("${security.password.strength}")
     private int passwordStrength;
 
+    @Value("${security.password.hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int hashingThreads;
+
+    @Value("${security.password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${security.password.hashing.timeout-ms:5000}")
+    private long hashingTimeoutMillis;
+
     //    public static final String BACKEND_URL = "http://localhost:8080";
     public static final String BACKEND_URL = "https://api.xenonhealthcare.xyz";
     //    public static final String FRONTEND_URL = "http://localhost:5173";
     public static final String FRONTEND_URL = "https://xenonhealthcare.xyz";
     public static final String FRONTEND_URL_WWW = "https://www.xenonhealthcare.xyz";
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(passwordStrength);
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(passwordStrength),
+                hashingThreads, hashingQueueCapacity, hashingTimeoutMillis, meterRegistry);
     }
 
 }
@@ -0,0 +1,2 @@
+-- Incremented on every profile update; carried in access tokens as the "pv" claim
+ALTER TABLE table_user ADD COLUMN IF NOT EXISTS profile_version BIGINT NOT NULL DEFAULT 0;
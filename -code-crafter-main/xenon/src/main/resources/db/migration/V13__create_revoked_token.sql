@@ -0,0 +1,15 @@
+-- Deny-list of revoked access tokens. A row either revokes one token (token_id = jti) or every token
+-- of a user issued up to revoked_at (token_id IS NULL). Rows are pruned once expires_at has passed.
+CREATE TABLE revoked_token
+(
+    id         BIGSERIAL PRIMARY KEY,
+    token_id   VARCHAR(64) UNIQUE,
+    user_id    BIGINT,
+    reason     VARCHAR(50),
+    revoked_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMPTZ NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES table_user (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_revoked_token_user_id ON revoked_token (user_id);
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token (expires_at);
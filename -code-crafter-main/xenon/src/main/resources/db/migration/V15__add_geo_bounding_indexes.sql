@@ -0,0 +1,35 @@
+-- Index-assisted geo lookups: queries first narrow rows with a lat/lon box and only then run the exact
+-- haversine check. User locations are points, so a plain btree over the coordinates is enough.
+CREATE INDEX idx_user_location_lat_lon ON user_location (latitude, longitude) WHERE location_allowed = TRUE;
+
+-- Alerts are circles with a per-row radius, so each row stores the box around its circle (kept up to date
+-- by the entity) and the "which alerts cover this point" query becomes a GiST box containment lookup.
+ALTER TABLE alert_table
+    ADD COLUMN min_latitude  DOUBLE PRECISION,
+    ADD COLUMN max_latitude  DOUBLE PRECISION,
+    ADD COLUMN min_longitude DOUBLE PRECISION,
+    ADD COLUMN max_longitude DOUBLE PRECISION;
+
+UPDATE alert_table a
+SET min_latitude  = GREATEST(-90, a.latitude - b.d_lat),
+    max_latitude  = LEAST(90, a.latitude + b.d_lat),
+    min_longitude = CASE WHEN b.d_lon IS NULL OR a.longitude - b.d_lon < -180 OR a.longitude + b.d_lon > 180
+                         THEN -180 ELSE a.longitude - b.d_lon END,
+    max_longitude = CASE WHEN b.d_lon IS NULL OR a.longitude - b.d_lon < -180 OR a.longitude + b.d_lon > 180
+                         THEN 180 ELSE a.longitude + b.d_lon END
+FROM (SELECT id,
+             degrees(radius / 6371.0) AS d_lat,
+             CASE WHEN abs(latitude) + degrees(radius / 6371.0) >= 90 THEN NULL
+                  ELSE degrees(radius / 6371.0) / cos(radians(abs(latitude) + degrees(radius / 6371.0))) END AS d_lon
+      FROM alert_table) b
+WHERE a.id = b.id;
+
+ALTER TABLE alert_table
+    ALTER COLUMN min_latitude SET NOT NULL,
+    ALTER COLUMN max_latitude SET NOT NULL,
+    ALTER COLUMN min_longitude SET NOT NULL,
+    ALTER COLUMN max_longitude SET NOT NULL;
+
+CREATE INDEX idx_alert_table_active_bounds ON alert_table
+    USING gist (box(point(min_longitude, min_latitude), point(max_longitude, max_latitude)))
+    WHERE is_active = TRUE;
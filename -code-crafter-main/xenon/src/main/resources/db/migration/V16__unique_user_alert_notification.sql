@@ -0,0 +1,10 @@
+-- One notification per (user, alert): keep the oldest row of any existing duplicates, then let the
+-- constraint reject concurrent inserts. The constraint's index also serves lookups by user_id.
+DELETE FROM user_alert_notification a
+    USING user_alert_notification b
+WHERE a.user_id = b.user_id
+  AND a.alert_id = b.alert_id
+  AND a.id > b.id;
+
+ALTER TABLE user_alert_notification
+    ADD CONSTRAINT uk_user_alert_notification_user_alert UNIQUE (user_id, alert_id);
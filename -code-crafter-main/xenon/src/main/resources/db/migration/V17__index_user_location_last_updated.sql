@@ -0,0 +1,2 @@
+-- Supports the incremental alert sweep, which pages through locations updated since its last watermark
+CREATE INDEX idx_user_location_last_updated ON user_location (last_updated, id) WHERE location_allowed = TRUE;
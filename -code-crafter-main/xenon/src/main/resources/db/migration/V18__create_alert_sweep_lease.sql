@@ -0,0 +1,18 @@
+-- Coordination for the alert sweep across instances. Users are split into partitions by user id; each
+-- partition is leased by one node at a time and carries its own watermark, so a lease that is not renewed
+-- (dead node) simply expires and another node resumes from the same watermark.
+CREATE TABLE alert_sweep_partition
+(
+    partition_id INT PRIMARY KEY,
+    owner_id     VARCHAR(100),
+    lease_until  TIMESTAMPTZ,
+    watermark    TIMESTAMPTZ,
+    next_due_at  TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Live nodes heartbeat here; the count decides each node's fair share of partitions per poll
+CREATE TABLE alert_sweep_node
+(
+    node_id      VARCHAR(100) PRIMARY KEY,
+    heartbeat_at TIMESTAMPTZ NOT NULL
+);
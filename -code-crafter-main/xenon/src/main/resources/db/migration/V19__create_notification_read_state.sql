@@ -0,0 +1,20 @@
+-- Per-user read watermark: everything created at or before last_read_at counts as read, so marking all
+-- notifications of a scope as read is a single-row upsert. is_read on the rows themselves stays as the
+-- per-item override for notifications newer than the watermark.
+CREATE TABLE notification_read_state
+(
+    user_id      BIGINT      NOT NULL,
+    scope        VARCHAR(20) NOT NULL,
+    last_read_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (user_id, scope),
+    FOREIGN KEY (user_id) REFERENCES table_user (id) ON DELETE CASCADE
+);
+
+-- Unread lists and counts are a range scan over (user_id, created_at > last_read_at)
+CREATE INDEX idx_user_alert_notification_unread
+    ON user_alert_notification (user_id, created_at)
+    WHERE is_read = FALSE;
+
+CREATE INDEX idx_notification_unread
+    ON notification (user_id, created_at)
+    WHERE is_read = FALSE;
@@ -0,0 +1,11 @@
+-- Alerts past their end date are switched off by the expiry sweeper from now on. Switch off the ones that
+-- have already expired, so the partial indexes on active alerts only hold live rows.
+UPDATE alert_table
+SET is_active  = FALSE,
+    updated_at = CURRENT_TIMESTAMP
+WHERE is_active = TRUE
+  AND end_date < CURRENT_TIMESTAMP;
+
+CREATE INDEX idx_alert_table_active_end_date ON alert_table (end_date) WHERE is_active = TRUE;
+
+CREATE INDEX idx_alert_table_active_health_authorization ON alert_table (health_authorization_id) WHERE is_active = TRUE;
@@ -0,0 +1,71 @@
+-- Monthly range partitions on created_at for user_alert_notification. Old notifications are removed by
+-- dropping whole partitions, and queries bounded on created_at only touch the partitions they need.
+
+-- A partitioned table cannot enforce UNIQUE (user_id, alert_id) without the partition key, so "one
+-- notification per user and alert" moves to a narrow key table that the insert claims first.
+CREATE TABLE user_alert_notification_key
+(
+    user_id  BIGINT NOT NULL,
+    alert_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, alert_id),
+    FOREIGN KEY (alert_id) REFERENCES alert_table (id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES table_user (id) ON DELETE CASCADE
+);
+
+INSERT INTO user_alert_notification_key (user_id, alert_id)
+SELECT DISTINCT user_id, alert_id
+FROM user_alert_notification;
+
+ALTER TABLE user_alert_notification RENAME TO user_alert_notification_legacy;
+ALTER SEQUENCE user_alert_notification_id_seq AS BIGINT;
+ALTER SEQUENCE user_alert_notification_id_seq OWNED BY NONE;
+
+CREATE TABLE user_alert_notification
+(
+    id         BIGINT    NOT NULL DEFAULT nextval('user_alert_notification_id_seq'),
+    user_id    BIGINT    NOT NULL,
+    alert_id   BIGINT    NOT NULL,
+    is_read    BOOLEAN   NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    read_at    TIMESTAMP,
+    PRIMARY KEY (id, created_at),
+    FOREIGN KEY (alert_id) REFERENCES alert_table (id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES table_user (id) ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+-- Creates the partition holding the month of the given date, named user_alert_notification_pYYYYMM.
+-- Safe to call repeatedly and from several instances at once.
+CREATE OR REPLACE FUNCTION create_user_alert_notification_partition(month DATE) RETURNS VOID AS
+$$
+DECLARE
+    from_date DATE := date_trunc('month', month)::DATE;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('user_alert_notification_partitions'));
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF user_alert_notification FOR VALUES FROM (%L) TO (%L)',
+                   'user_alert_notification_p' || to_char(from_date, 'YYYYMM'),
+                   from_date,
+                   (from_date + INTERVAL '1 month')::DATE);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Every month that has notifications, up to three months ahead
+SELECT create_user_alert_notification_partition(month::DATE)
+FROM generate_series(
+             date_trunc('month', LEAST(COALESCE((SELECT min(created_at) FROM user_alert_notification_legacy),
+                                                CURRENT_TIMESTAMP::TIMESTAMP), CURRENT_TIMESTAMP::TIMESTAMP)),
+             date_trunc('month', CURRENT_TIMESTAMP::TIMESTAMP) + INTERVAL '3 months',
+             INTERVAL '1 month') AS month;
+
+INSERT INTO user_alert_notification (id, user_id, alert_id, is_read, created_at, read_at)
+SELECT id, user_id, alert_id, COALESCE(is_read, FALSE), COALESCE(created_at, CURRENT_TIMESTAMP), read_at
+FROM user_alert_notification_legacy;
+
+DROP TABLE user_alert_notification_legacy;
+ALTER SEQUENCE user_alert_notification_id_seq OWNED BY user_alert_notification.id;
+
+-- Created on the parent, so every partition (including future ones) gets them
+CREATE INDEX idx_user_alert_notification_user_created ON user_alert_notification (user_id, created_at);
+
+CREATE INDEX idx_user_alert_notification_unread
+    ON user_alert_notification (user_id, created_at)
+    WHERE is_read = FALSE;
@@ -0,0 +1,2 @@
+-- The revocation sync reads the rows revoked since its previous run
+CREATE INDEX idx_revoked_token_revoked_at ON revoked_token (revoked_at);
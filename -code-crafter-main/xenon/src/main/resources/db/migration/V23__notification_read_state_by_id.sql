@@ -0,0 +1,30 @@
+-- Existing read watermarks are converted from creation times to notification ids, so unread lookups can
+-- range-scan the partial (user_id, id) indexes. The watermarks are no longer advanced: mark-all-as-read marks
+-- the visible unread rows instead, since neither ids nor created_at follow commit order.
+ALTER TABLE notification_read_state
+    ADD COLUMN last_read_id BIGINT NOT NULL DEFAULT 0;
+
+UPDATE notification_read_state s
+SET last_read_id = COALESCE((SELECT max(n.id)
+                             FROM user_alert_notification n
+                             WHERE n.user_id = s.user_id
+                               AND n.created_at <= s.last_read_at), 0)
+WHERE s.scope = 'ALERT';
+
+UPDATE notification_read_state s
+SET last_read_id = COALESCE((SELECT max(n.id)
+                             FROM notification n
+                             WHERE n.user_id = s.user_id
+                               AND n.created_at <= s.last_read_at), 0)
+WHERE s.scope = 'GENERAL';
+
+-- Unread lists and the watermark itself are range scans over (user_id, id > last_read_id)
+DROP INDEX idx_user_alert_notification_unread;
+CREATE INDEX idx_user_alert_notification_unread
+    ON user_alert_notification (user_id, id)
+    WHERE is_read = FALSE;
+
+DROP INDEX idx_notification_unread;
+CREATE INDEX idx_notification_unread
+    ON notification (user_id, id)
+    WHERE is_read = FALSE;
@@ -0,0 +1,8 @@
+-- AlertSeverity has a CRITICAL level, and alert fan-out gives it the top priority lane, but the original
+-- constraint only allowed HIGH, MEDIUM and LOW, so no CRITICAL alert could be stored.
+ALTER TABLE alert_table
+    DROP CONSTRAINT alert_table_severity_level_check;
+
+ALTER TABLE alert_table
+    ADD CONSTRAINT alert_table_severity_level_check
+        CHECK (severity_level IN ('CRITICAL', 'HIGH', 'MEDIUM', 'LOW'));
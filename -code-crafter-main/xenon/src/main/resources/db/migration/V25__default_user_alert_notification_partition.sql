@@ -0,0 +1,26 @@
+-- Catch-all partition, so notification inserts keep working when partition maintenance falls behind
+-- instead of failing with "no partition of relation found for row".
+CREATE TABLE user_alert_notification_default PARTITION OF user_alert_notification DEFAULT;
+
+-- A new month partition cannot be attached while the default partition holds rows of that month, so they
+-- are moved into the new partition before it is attached.
+CREATE OR REPLACE FUNCTION create_user_alert_notification_partition(month DATE) RETURNS VOID AS
+$$
+DECLARE
+    from_date      DATE := date_trunc('month', month)::DATE;
+    until_date     DATE := (date_trunc('month', month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'user_alert_notification_p' || to_char(from_date, 'YYYYMM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('user_alert_notification_partitions'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE user_alert_notification INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM user_alert_notification_default WHERE created_at >= %L AND created_at < %L RETURNING *) '
+                       || 'INSERT INTO %I SELECT * FROM moved',
+                   from_date, until_date, partition_name);
+    EXECUTE format('ALTER TABLE user_alert_notification ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, from_date, until_date);
+END;
+$$ LANGUAGE plpgsql;
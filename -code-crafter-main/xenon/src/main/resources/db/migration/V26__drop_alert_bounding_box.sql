@@ -0,0 +1,9 @@
+-- Alerts covering a point are looked up in the in-memory alert index, so the database-side bounding box of
+-- each alert circle and its GiST index had no readers and only added write cost.
+DROP INDEX idx_alert_table_active_bounds;
+
+ALTER TABLE alert_table
+    DROP COLUMN min_latitude,
+    DROP COLUMN max_latitude,
+    DROP COLUMN min_longitude,
+    DROP COLUMN max_longitude;
@@ -0,0 +1,30 @@
+-- last_updated is the time a location update was accepted, which is what freshness checks compare. Buffered
+-- updates reach the table later, and later still when a flush fails and is retried, so the incremental alert
+-- sweep pages on written_at instead: the database time the row was last written, set by a trigger on every
+-- insert and update.
+ALTER TABLE user_location
+    ADD COLUMN written_at TIMESTAMPTZ;
+
+UPDATE user_location
+SET written_at = COALESCE(last_updated, CURRENT_TIMESTAMP);
+
+ALTER TABLE user_location
+    ALTER COLUMN written_at SET NOT NULL,
+    ALTER COLUMN written_at SET DEFAULT CURRENT_TIMESTAMP;
+
+CREATE OR REPLACE FUNCTION set_user_location_written_at() RETURNS TRIGGER AS
+$$
+BEGIN
+    NEW.written_at := CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_user_location_written_at
+    BEFORE INSERT OR UPDATE
+    ON user_location
+    FOR EACH ROW
+EXECUTE FUNCTION set_user_location_written_at();
+
+DROP INDEX idx_user_location_last_updated;
+CREATE INDEX idx_user_location_written_at ON user_location (written_at, id) WHERE location_allowed = TRUE;